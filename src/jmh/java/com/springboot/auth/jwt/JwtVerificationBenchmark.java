@@ -0,0 +1,72 @@
+package com.springboot.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// 요청 1건의 토큰 검증 비용 비교 (초당 검증 수)
+// - perRequestParser : 이전 방식. 요청마다 Key를 인코딩/디코딩하고 Parser를 새로 만들어 validateToken, getClaims로 2번 파싱
+// - sharedParser     : 시작 時 만든 Parser로 1번만 파싱
+// - verifiedTokenCache : 검증이 끝난 토큰은 캐시된 Claims 반환
+public class JwtVerificationBenchmark {
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenizer jwtTokenizer;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer(new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000));
+        ReflectionTestUtils.setField(jwtTokenizer, "secretKey", SECRET_KEY);
+        jwtTokenizer.init();
+
+        token = jwtTokenizer.generateAccessToken(
+                Map.of("username", "user@gmail.com", "roles", List.of("USER"), "userId", 1L),
+                "user@gmail.com",
+                jwtTokenizer.getTokenExpiration(60),
+                jwtTokenizer.encodedBase64SecretKey(SECRET_KEY));
+    }
+
+    @Benchmark
+    public Claims perRequestParser() {
+        parseWithNewParser(token);
+
+        return parseWithNewParser(token);
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtTokenizer.getClaims(token).getBody();
+    }
+
+    @Benchmark
+    public Claims verifiedTokenCache() {
+        return jwtTokenizer.parseValidClaims(token);
+    }
+
+    private Claims parseWithNewParser(String jws) {
+        String base64EncodedSecretKey = Encoders.BASE64.encode(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64EncodedSecretKey)))
+                .build()
+                .parseClaimsJws(jws)
+                .getBody();
+    }
+}
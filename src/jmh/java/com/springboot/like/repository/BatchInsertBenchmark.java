@@ -0,0 +1,186 @@
+package com.springboot.like.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+// 질문 10만 건, 좋아요 10만 건을 저장하는 시간과 DB 왕복(Statement 실행) 횟수 비교 (H2, Hibernate가 보내는 SQL과 같은 방식)
+// - identity : 이전 방식. INSERT마다 실행하고 생성된 ID를 받아옴 (batch 불가)
+// - sequence : 시퀀스에서 ID를 50개씩 받아오고(pooled), INSERT는 50개씩 batch로 전송
+public class BatchInsertBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int USERS = 100;
+    private static final int BATCH_SIZE = 50;
+    private static final int COMMIT_SIZE = 1_000;
+
+    @Param({"identity", "sequence"})
+    public String idGeneration;
+
+    private Connection connection;
+    private PreparedStatement insertQuestion;
+    private PreparedStatement insertLike;
+    private PreparedStatement nextQuestionIds;
+    private PreparedStatement nextLikeIds;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long roundTrips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batch-insert-" + idGeneration + ";DB_CLOSE_DELAY=-1");
+        connection.setAutoCommit(false);
+        String id = idGeneration.equals("identity") ? "BIGINT AUTO_INCREMENT PRIMARY KEY" : "BIGINT PRIMARY KEY";
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (user_id BIGINT PRIMARY KEY)");
+            statement.execute("INSERT INTO users SELECT x FROM SYSTEM_RANGE(1, " + USERS + ")");
+            statement.execute("CREATE TABLE question (question_id " + id + ", title VARCHAR(255), " +
+                    "question_context VARCHAR(255), question_status VARCHAR(20), question_visibility VARCHAR(20), " +
+                    "like_count INT NOT NULL, view_count INT NOT NULL, created_at TIMESTAMP, modified_at TIMESTAMP, " +
+                    "user_id BIGINT REFERENCES users (user_id))");
+            statement.execute("CREATE TABLE likes (like_id " + id + ", created_at TIMESTAMP, modified_at TIMESTAMP, " +
+                    "question_id BIGINT REFERENCES question (question_id), user_id BIGINT REFERENCES users (user_id), " +
+                    "CONSTRAINT uk_likes_user_question UNIQUE (user_id, question_id))");
+            statement.execute("CREATE SEQUENCE question_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+            statement.execute("CREATE SEQUENCE likes_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+        }
+        connection.commit();
+
+        String questionColumns = "title, question_context, question_status, question_visibility, " +
+                "like_count, view_count, created_at, modified_at, user_id";
+        if (idGeneration.equals("identity")) {
+            insertQuestion = connection.prepareStatement("INSERT INTO question (" + questionColumns + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            insertLike = connection.prepareStatement("INSERT INTO likes (created_at, modified_at, question_id, user_id) " +
+                    "VALUES (?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+        } else {
+            insertQuestion = connection.prepareStatement("INSERT INTO question (" + questionColumns + ", question_id) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            insertLike = connection.prepareStatement("INSERT INTO likes (created_at, modified_at, question_id, user_id, like_id) " +
+                    "VALUES (?, ?, ?, ?, ?)");
+        }
+        nextQuestionIds = connection.prepareStatement("CALL NEXT VALUE FOR question_seq");
+        nextLikeIds = connection.prepareStatement("CALL NEXT VALUE FOR likes_seq");
+    }
+
+    // 매 측정마다 빈 테이블에서 시작
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM likes");
+            statement.execute("DELETE FROM question");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long insertQuestionsAndLikes(RoundTrips roundTrips) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        long[] questionIds = new long[ROWS];
+        IdPool questionIdPool = new IdPool(nextQuestionIds, roundTrips);
+        IdPool likeIdPool = new IdPool(nextLikeIds, roundTrips);
+
+        for (int i = 0; i < ROWS; i++) {
+            insertQuestion.setString(1, "title" + i);
+            insertQuestion.setString(2, "context");
+            insertQuestion.setString(3, "QUESTION_REGISTERED");
+            insertQuestion.setString(4, "QUESTION_PUBLIC");
+            insertQuestion.setInt(5, 0);
+            insertQuestion.setInt(6, 0);
+            insertQuestion.setTimestamp(7, now);
+            insertQuestion.setTimestamp(8, now);
+            insertQuestion.setLong(9, i % USERS + 1);
+            questionIds[i] = insert(insertQuestion, 10, questionIdPool, i, roundTrips);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            insertLike.setTimestamp(1, now);
+            insertLike.setTimestamp(2, now);
+            insertLike.setLong(3, questionIds[i]);
+            insertLike.setLong(4, i % USERS + 1);
+            insert(insertLike, 5, likeIdPool, i, roundTrips);
+        }
+        connection.commit();
+
+        return questionIds[ROWS - 1];
+    }
+
+    // 저장한 행의 ID 반환
+    private long insert(PreparedStatement insert, int idIndex, IdPool idPool, int index, RoundTrips roundTrips)
+            throws SQLException {
+        long id;
+
+        if (idGeneration.equals("identity")) {
+            insert.executeUpdate();
+            roundTrips.roundTrips++;
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                id = keys.getLong(1);
+            }
+        } else {
+            id = idPool.next();
+            insert.setLong(idIndex, id);
+            insert.addBatch();
+            if ((index + 1) % BATCH_SIZE == 0 || index == ROWS - 1) {
+                insert.executeBatch();
+                roundTrips.roundTrips++;
+            }
+        }
+
+        // Hibernate의 flush처럼 일정 건수마다 커밋
+        if ((index + 1) % COMMIT_SIZE == 0) {
+            connection.commit();
+        }
+        return id;
+    }
+
+    // Hibernate pooled optimizer : 시퀀스 값 1번으로 ID BATCH_SIZE개를 사용
+    private static class IdPool {
+        private final PreparedStatement nextValue;
+        private final RoundTrips roundTrips;
+        private long next;
+        private long limit;
+
+        private IdPool(PreparedStatement nextValue, RoundTrips roundTrips) {
+            this.nextValue = nextValue;
+            this.roundTrips = roundTrips;
+        }
+
+        private long next() throws SQLException {
+            if (next == limit) {
+                try (ResultSet resultSet = nextValue.executeQuery()) {
+                    resultSet.next();
+                    next = resultSet.getLong(1);
+                    limit = next + BATCH_SIZE;
+                }
+                roundTrips.roundTrips++;
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.springboot.outbox.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// OutboxDispatcher가 Event를 가져가서(claim) 전달 완료로 표시하는 비용 (H2, OutboxEvent와 같은 인덱스)
+// 서버 수는 Thread 수로 흉내 냄 (-t 1, -t 4 로 실행해서 비교, events = 초당 전달 완료로 표시한 Event 수)
+// - unclaimed : 이전 방식. PENDING 조회 後 바로 전달 완료 표시 (서버가 1대일 때만 안전)
+// - claimed   : claim UPDATE로 가져간 Event만 조회 後 전달 완료 표시 (여러 서버에서 같은 Event를 가져가지 않음)
+public class OutboxClaimBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final int EVENTS = 1_000_000;
+    // 전달 완료 표시는 JPA의 IN :ids와 같이 ID마다 parameter 사용 (batch보다 적으면 없는 ID로 채움)
+    private static final String ID_PARAMETERS = String.join(", ", Collections.nCopies(BATCH_SIZE, "?"));
+    private static final String URL = "jdbc:h2:mem:outbox-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        private Connection connection;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            connection = DriverManager.getConnection(URL);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS outbox_event (" +
+                        "outbox_event_id BIGINT PRIMARY KEY, event_type VARCHAR(30) NOT NULL, aggregate_id BIGINT NOT NULL, " +
+                        "outbox_status VARCHAR(20) NOT NULL, claim_token VARCHAR(36), claimed_until TIMESTAMP, " +
+                        "dispatched_at TIMESTAMP)");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_outbox_event_status_id ON outbox_event (outbox_status, outbox_event_id)");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_outbox_event_claim_token ON outbox_event (claim_token)");
+            }
+        }
+
+        // 매 측정마다 전달 대기 중인 Event를 다시 채움
+        @Setup(Level.Iteration)
+        public void fill() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE outbox_event");
+                statement.execute("INSERT INTO outbox_event (outbox_event_id, event_type, aggregate_id, outbox_status) " +
+                        "SELECT x, 'USER_REGISTERED', x, 'PENDING' FROM SYSTEM_RANGE(1, " + EVENTS + ")");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    // 서버 1대 = Connection 1개
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Node {
+        public long events;
+
+        private Connection connection;
+        private PreparedStatement pendingQuery;
+        private PreparedStatement claimableQuery;
+        private PreparedStatement claimUpdate;
+        private PreparedStatement claimedQuery;
+        private PreparedStatement markDispatched;
+
+        @Setup(Level.Trial)
+        public void setUp(Database database) throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            connection.setAutoCommit(false);
+
+            pendingQuery = connection.prepareStatement("SELECT outbox_event_id, aggregate_id FROM outbox_event " +
+                    "WHERE outbox_status = 'PENDING' ORDER BY outbox_status, outbox_event_id LIMIT " + BATCH_SIZE);
+            claimableQuery = connection.prepareStatement("SELECT outbox_event_id FROM outbox_event " +
+                    "WHERE outbox_status = 'PENDING' AND (claimed_until IS NULL OR claimed_until < ?) " +
+                    "ORDER BY outbox_status, outbox_event_id LIMIT " + BATCH_SIZE);
+            claimUpdate = connection.prepareStatement("UPDATE outbox_event SET claim_token = ?, claimed_until = ? " +
+                    "WHERE outbox_status = 'PENDING' AND outbox_event_id BETWEEN ? AND ? " +
+                    "AND (claimed_until IS NULL OR claimed_until < ?)");
+            claimedQuery = connection.prepareStatement("SELECT outbox_event_id, aggregate_id FROM outbox_event " +
+                    "WHERE claim_token = ? AND outbox_status = 'PENDING' ORDER BY outbox_event_id");
+            markDispatched = connection.prepareStatement("UPDATE outbox_event SET outbox_status = 'DISPATCHED', " +
+                    "dispatched_at = ? WHERE outbox_event_id IN (" + ID_PARAMETERS + ")");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public long unclaimed(Node node) throws SQLException {
+        List<Long> ids = read(node.pendingQuery);
+        node.connection.commit();
+
+        return mark(node, ids);
+    }
+
+    @Benchmark
+    public long claimed(Node node) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String claimToken = UUID.randomUUID().toString();
+
+        node.claimableQuery.setTimestamp(1, now);
+        List<Long> ids = read(node.claimableQuery);
+
+        node.claimUpdate.setString(1, claimToken);
+        node.claimUpdate.setTimestamp(2, new Timestamp(now.getTime() + 60_000));
+        node.claimUpdate.setLong(3, ids.isEmpty() ? 0 : ids.get(0));
+        node.claimUpdate.setLong(4, ids.isEmpty() ? 0 : ids.get(ids.size() - 1));
+        node.claimUpdate.setTimestamp(5, now);
+        node.claimUpdate.executeUpdate();
+
+        node.claimedQuery.setString(1, claimToken);
+        List<Long> claimed = read(node.claimedQuery);
+        node.connection.commit();
+
+        return mark(node, claimed);
+    }
+
+    private static List<Long> read(PreparedStatement query) throws SQLException {
+        List<Long> ids = new ArrayList<>(BATCH_SIZE);
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static void setIds(PreparedStatement statement, int from, List<Long> ids) throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            statement.setLong(from + i, i < ids.size() ? ids.get(i) : -1);
+        }
+    }
+
+    private static long mark(Node node, List<Long> ids) throws SQLException {
+        node.markDispatched.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+        setIds(node.markDispatched, 2, ids);
+        int marked = node.markDispatched.executeUpdate();
+        node.connection.commit();
+
+        node.events += marked;
+
+        return marked;
+    }
+}
@@ -0,0 +1,105 @@
+package com.springboot.question.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// 질문 100만 건에서 좋아요 수 내림차순 목록의 페이지 1개(20건)를 읽는 비용 비교 (H2, Question 엔티티와 같은 인덱스)
+// - offset : 이전 방식. ORDER BY + OFFSET은 앞의 행을 모두 읽고 버림 (페이지가 깊을수록 느려짐)
+// - keyset : (likeCount, questionId)가 cursor보다 뒤인 행부터 DESC 인덱스로 바로 이동 (페이지 깊이와 상관없이 일정)
+public class QuestionFeedBenchmark {
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100", "10000", "49000"})
+    public int pageNumber;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+    private int cursorLikeCount;
+    private long cursorQuestionId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        // 같은 쿼리의 이전 결과를 재사용하지 않도록 설정 (매번 실제로 조회)
+        connection = DriverManager.getConnection("jdbc:h2:mem:feed-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS question (" +
+                    "question_id BIGINT PRIMARY KEY, title VARCHAR(255), like_count INT NOT NULL, " +
+                    "question_status VARCHAR(20), question_visibility VARCHAR(20))");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_question_like_count_id ON question (like_count, question_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_question_like_count_id_desc ON question (like_count DESC, question_id DESC)");
+
+            // 좋아요 수는 0~999로 분포시켜 같은 값이 여러 페이지에 걸치도록 함
+            statement.execute("MERGE INTO question SELECT x, 'title' || x, MOD(x * 7919, 1000), " +
+                    "'QUESTION_REGISTERED', 'QUESTION_PUBLIC' FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        }
+
+        offsetQuery = connection.prepareStatement("SELECT question_id, title, like_count FROM question " +
+                "WHERE question_visibility = 'QUESTION_PUBLIC' " +
+                "ORDER BY like_count DESC, question_id DESC LIMIT ? OFFSET ?");
+        keysetQuery = connection.prepareStatement("SELECT question_id, title, like_count FROM question " +
+                "WHERE question_visibility = 'QUESTION_PUBLIC' " +
+                "AND like_count <= ? AND (like_count < ? OR (like_count = ? AND question_id < ?)) " +
+                "ORDER BY like_count DESC, question_id DESC LIMIT ?");
+
+        // 이전 페이지의 마지막 행 = 클라이언트가 받은 cursor
+        try (PreparedStatement statement = connection.prepareStatement("SELECT like_count, question_id FROM question " +
+                "ORDER BY like_count DESC, question_id DESC LIMIT 1 OFFSET ?")) {
+            statement.setInt(1, pageNumber * PAGE_SIZE - 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                cursorLikeCount = resultSet.getInt(1);
+                cursorQuestionId = resultSet.getLong(2);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long offset() throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, pageNumber * PAGE_SIZE);
+
+        return read(offsetQuery);
+    }
+
+    @Benchmark
+    public long keyset() throws SQLException {
+        keysetQuery.setInt(1, cursorLikeCount);
+        keysetQuery.setInt(2, cursorLikeCount);
+        keysetQuery.setInt(3, cursorLikeCount);
+        keysetQuery.setLong(4, cursorQuestionId);
+        keysetQuery.setInt(5, PAGE_SIZE);
+
+        return read(keysetQuery);
+    }
+
+    private long read(PreparedStatement query) throws SQLException {
+        long sum = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                sum += resultSet.getLong(1);
+            }
+        }
+        return sum;
+    }
+}
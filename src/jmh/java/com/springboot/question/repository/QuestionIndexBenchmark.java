@@ -0,0 +1,116 @@
+package com.springboot.question.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// 질문 50만 건 + 좋아요 50만 건에서 목록, 좋아요 조회 비용 비교 (H2)
+// - indexed = false : 기본키, 외래키, Unique 제약조건 인덱스만 있음 (인덱스 추가 前)
+// - indexed = true  : Question, Like 엔티티에 선언한 인덱스를 추가
+public class QuestionIndexBenchmark {
+    private static final int QUESTIONS = 500_000;
+    private static final int USERS = 1_000;
+    private static final String STATUS_FILTER =
+            "question_status NOT IN ('QUESTION_DELETED', 'QUESTION_DEACTIVED')";
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement pageQuery;
+    private PreparedStatement countQuery;
+    private PreparedStatement likesDescQuery;
+    private PreparedStatement likeQuery;
+    private long questionId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        // 같은 쿼리의 이전 결과를 재사용하지 않도록 설정 (매번 실제로 조회)
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:index-benchmark-" + indexed + ";DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS question (" +
+                    "question_id BIGINT PRIMARY KEY, title VARCHAR(255), question_status VARCHAR(20), " +
+                    "like_count INT NOT NULL, view_count INT NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS likes (" +
+                    "like_id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, question_id BIGINT NOT NULL, " +
+                    "CONSTRAINT uk_likes_user_question UNIQUE (user_id, question_id), " +
+                    "CONSTRAINT fk_likes_question FOREIGN KEY (question_id) REFERENCES question (question_id))");
+
+            if (indexed) {
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_question_status_id ON question (question_status, question_id)");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_question_id_desc ON question (question_id DESC)");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_question_like_count_id_desc ON question (like_count DESC, question_id DESC)");
+            }
+
+            // 5%는 삭제된 질문, 좋아요 수는 0~999로 분포
+            statement.execute("MERGE INTO question SELECT x, 'title' || x, " +
+                    "CASE WHEN MOD(x, 20) = 0 THEN 'QUESTION_DELETED' ELSE 'QUESTION_REGISTERED' END, " +
+                    "MOD(x * 7919, 1000), MOD(x * 104729, 5000) FROM SYSTEM_RANGE(1, " + QUESTIONS + ")");
+            statement.execute("MERGE INTO likes SELECT x, MOD(x, " + USERS + ") + 1, x FROM SYSTEM_RANGE(1, " + QUESTIONS + ")");
+        }
+
+        pageQuery = connection.prepareStatement("SELECT question_id, title FROM question WHERE " + STATUS_FILTER +
+                " ORDER BY question_id DESC LIMIT 20 OFFSET 200");
+        countQuery = connection.prepareStatement("SELECT COUNT(*) FROM question WHERE " + STATUS_FILTER);
+        likesDescQuery = connection.prepareStatement("SELECT question_id, title FROM question WHERE " + STATUS_FILTER +
+                " ORDER BY like_count DESC, question_id DESC LIMIT 20");
+        likeQuery = connection.prepareStatement("SELECT like_id FROM likes WHERE user_id = ? AND question_id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // 질문 목록 11번째 페이지 (questionId 내림차순)
+    @Benchmark
+    public long questionPage() throws SQLException {
+        return read(pageQuery);
+    }
+
+    // 질문 목록의 전체 개수 (count 쿼리)
+    @Benchmark
+    public long questionCount() throws SQLException {
+        return read(countQuery);
+    }
+
+    // 좋아요 수 내림차순 첫 페이지
+    @Benchmark
+    public long likesDescFirstPage() throws SQLException {
+        return read(likesDescQuery);
+    }
+
+    // 좋아요 여부 확인 (findByUserAndQuestion)
+    @Benchmark
+    public long likeLookup() throws SQLException {
+        questionId = questionId % QUESTIONS + 1;
+        likeQuery.setLong(1, questionId % USERS + 1);
+        likeQuery.setLong(2, questionId);
+
+        return read(likeQuery);
+    }
+
+    private long read(PreparedStatement query) throws SQLException {
+        long sum = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                sum += resultSet.getLong(1);
+            }
+        }
+        return sum;
+    }
+}
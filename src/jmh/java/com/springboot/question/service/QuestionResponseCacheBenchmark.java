@@ -0,0 +1,126 @@
+package com.springboot.question.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.springboot.answer.dto.AnswerResponseDto;
+import com.springboot.dto.SingleResponseDto;
+import com.springboot.question.dto.QuestionResponseDto;
+import com.springboot.question.entity.Question;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+// 인기 질문 단건 조회 1건의 응답 시간 분포 (p50, p99 : 결과의 p0.50, p0.99)
+// 질문 10만 건 中 인기 질문 100건에 요청이 몰리고, 요청 100건당 1번 질문이 변경되는 상황 (H2)
+// - uncached : 이전 방식. 요청마다 질문, 작성자, 답변을 조회하고 JSON으로 변환
+// - cached   : QuestionResponseCache에서 렌더링 된 응답을 반환 (변경된 질문만 다시 조회, 변환)
+// 4개 Thread가 쉬지 않고 요청하므로 초당 요청 수는 5k rps보다 훨씬 많음 (5k rps에서의 p99는 이 값 이하)
+public class QuestionResponseCacheBenchmark {
+    private static final int QUESTIONS = 100_000;
+    private static final int HOT_QUESTIONS = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private QuestionResponseCache cache;
+    private ThreadLocal<Connection> connections;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        url = "jdbc:h2:mem:response-cache-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS users (user_id BIGINT PRIMARY KEY, name VARCHAR(50))");
+            statement.execute("CREATE TABLE IF NOT EXISTS question (" +
+                    "question_id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, title VARCHAR(255), " +
+                    "question_context VARCHAR(2000), view_count INT NOT NULL, like_count INT NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS answer (" +
+                    "answer_id BIGINT PRIMARY KEY, question_id BIGINT NOT NULL UNIQUE, answer_context VARCHAR(2000))");
+
+            statement.execute("MERGE INTO users SELECT x, 'user' || x FROM SYSTEM_RANGE(1, 1000)");
+            statement.execute("MERGE INTO question SELECT x, MOD(x, 1000) + 1, 'title' || x, " +
+                    "REPEAT('context ', 100), MOD(x, 5000), MOD(x, 1000) FROM SYSTEM_RANGE(1, " + QUESTIONS + ")");
+            statement.execute("MERGE INTO answer SELECT x, x, REPEAT('answer ', 50) FROM SYSTEM_RANGE(1, " + QUESTIONS + ")");
+        }
+
+        connections = ThreadLocal.withInitial(() -> {
+            try {
+                return DriverManager.getConnection(url);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        cache = new QuestionResponseCache(objectMapper, new SimpleMeterRegistry(), 64L * 1024 * 1024,
+                Duration.ofSeconds(30), Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public byte[] uncached() throws Exception {
+        return render(load(hotQuestionId()));
+    }
+
+    @Benchmark
+    public byte[] cached() throws Exception {
+        long questionId = hotQuestionId();
+        if (ThreadLocalRandom.current().nextInt(100) == 0) {
+            cache.invalidate(questionId);
+        }
+
+        byte[] body = cache.get(questionId);
+        if (body != null) {
+            return body;
+        }
+
+        long version = cache.currentVersion(questionId);
+        return cache.put(questionId, version, new SingleResponseDto<>(load(questionId)));
+    }
+
+    private long hotQuestionId() {
+        return ThreadLocalRandom.current().nextInt(HOT_QUESTIONS) + 1;
+    }
+
+    private QuestionResponseDto load(long questionId) throws SQLException {
+        try (PreparedStatement statement = connections.get().prepareStatement(
+                "SELECT q.question_id, q.title, q.question_context, q.view_count, q.like_count, u.name, " +
+                        "a.answer_id, a.answer_context FROM question q JOIN users u ON q.user_id = u.user_id " +
+                        "LEFT JOIN answer a ON a.question_id = q.question_id WHERE q.question_id = ?")) {
+            statement.setLong(1, questionId);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return QuestionResponseDto.builder()
+                        .questionId(resultSet.getLong(1))
+                        .title(resultSet.getString(2))
+                        .questionContext(resultSet.getString(3))
+                        .viewCount(resultSet.getInt(4))
+                        .likeCount(resultSet.getInt(5))
+                        .questionStatus(Question.QuestionStatus.QUESTION_REGISTERED)
+                        .questionVisibility(Question.QuestionVisibility.QUESTION_PUBLIC)
+                        .userName(resultSet.getString(6))
+                        .answer(new AnswerResponseDto(resultSet.getLong(7), resultSet.getString(8)))
+                        .build();
+            }
+        }
+    }
+
+    private byte[] render(QuestionResponseDto response) throws Exception {
+        return objectMapper.writeValueAsBytes(new SingleResponseDto<>(response));
+    }
+}
@@ -0,0 +1,75 @@
+package com.springboot.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.answer.dto.AnswerResponseDto;
+import com.springboot.dto.MultiResponseDto;
+import com.springboot.question.dto.QuestionResponseDto;
+import com.springboot.question.entity.Question;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// 질문 목록 한 페이지(JSON)를 Redis에 저장/조회할 때 Serializer 비용과 저장 크기 비교
+// - json   : 이전 방식. StringRedisSerializer로 JSON을 UTF-8 그대로 저장
+// - binary : BinaryRedisSerializer로 기준 크기 이상이면 압축해서 저장
+// 저장 크기(byte)는 Setup에서 출력
+public class RedisValueSerializerBenchmark {
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"1", "20"})
+    public int pageSize;
+
+    private RedisSerializer<Object> serializer;
+    private String page;
+    private byte[] stored;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        serializer = format.equals("json")
+                ? (RedisSerializer<Object>) (RedisSerializer<?>) RedisSerializer.string()
+                : new BinaryRedisSerializer(1024);
+
+        List<QuestionResponseDto> questions = new ArrayList<>();
+        for (long questionId = 1; questionId <= pageSize; questionId++) {
+            questions.add(QuestionResponseDto.builder()
+                    .questionId(questionId)
+                    .title("질문 제목 " + questionId)
+                    .questionContext("질문 내용입니다. ".repeat(20) + questionId)
+                    .viewCount((int) questionId * 13)
+                    .likeCount((int) questionId * 7)
+                    .questionStatus(Question.QuestionStatus.QUESTION_REGISTERED)
+                    .questionVisibility(Question.QuestionVisibility.QUESTION_PUBLIC)
+                    .userName("user" + questionId)
+                    .answer(new AnswerResponseDto(questionId, "답변 내용입니다. ".repeat(10)))
+                    .build());
+        }
+        page = new ObjectMapper().writeValueAsString(
+                new MultiResponseDto<>(questions, new PageImpl<>(questions, PageRequest.of(0, pageSize), 1000)));
+        stored = serializer.serialize(page);
+
+        System.out.println("\n# " + format + ", pageSize " + pageSize + " : " + stored.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(stored);
+    }
+}
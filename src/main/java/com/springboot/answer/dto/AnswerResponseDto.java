@@ -8,6 +8,8 @@ import javax.validation.constraints.Positive;
 @Getter
 @Builder
 @AllArgsConstructor
+// Redis 캐시 값 역직렬화에 사용
+@NoArgsConstructor
 public class AnswerResponseDto {
     // 어느 질문에 대한 Response인지 확인하기 위해 사용
     private Long answerId;
@@ -8,6 +8,8 @@ import com.springboot.user.entity.User;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
@@ -15,15 +17,20 @@ import javax.persistence.*;
 @Getter
 @Setter
 @NoArgsConstructor
+// 2차 캐시 (region 설정은 ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Answer extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_seq_generator")
+    @SequenceGenerator(name = "answer_seq_generator", sequenceName = "ANSWER_SEQ", allocationSize = 50)
     private Long answerId;
 
     @Column(nullable = false)
     private String answerContext;
 
+    // 질문으로 답변을 찾을 때는 DB가 외래키(QUESTION_ID)에 만드는 인덱스를 사용 (인덱스를 따로 만들지 않음)
     @OneToOne
     @JoinColumn(name = "QUESTION_ID")
     @JsonBackReference
@@ -6,15 +6,17 @@ import com.springboot.answer.repository.AnswerRepository;
 import com.springboot.auth.utils.CustomUserDetails;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import com.springboot.helper.cache.EntityCacheEvictor;
+import com.springboot.helper.event.QuestionChangedEvent;
 import com.springboot.question.entity.Question;
 import com.springboot.question.repository.QuestionRepository;
 import com.springboot.question.service.QuestionService;
 import com.springboot.user.service.UserService;
 import com.springboot.utils.CheckUserRoles;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-@Transactional
+
 @Service
 public class AnswerService {
     private final AnswerRepository answerRepository;
@@ -22,18 +24,24 @@ public class AnswerService {
     private final QuestionService questionService;
     private final UserService userService;
     private final QuestionRepository questionRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ApplicationEventPublisher publisher;
 
     // Answer = Admin만 작성할 수 있음
     public AnswerService(AnswerRepository answerRepository,
                          QuestionRepository questionRepository,
                          CheckUserRoles checkUserRoles,
                          QuestionService questionService,
-                         UserService userService) {
+                         UserService userService,
+                         EntityCacheEvictor entityCacheEvictor,
+                         ApplicationEventPublisher publisher) {
         this.answerRepository = answerRepository;
         this.questionRepository = questionRepository;
         this.checkUserRoles = checkUserRoles;
         this.questionService = questionService;
         this.userService = userService;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.publisher = publisher;
     }
 
     public Answer createAnswer(Answer answer, Long questionId, CustomUserDetails customUserDetails) {
@@ -58,8 +66,11 @@ public class AnswerService {
         answer.setQuestion(question);
         answer.setUser(userService.findVerifiedUser(customUserDetails.getUserId()));
 
+        Answer savedAnswer = answerRepository.save(answer);
+
+        publisher.publishEvent(new QuestionChangedEvent(this, questionId));
 
-        return answerRepository.save(answer);
+        return savedAnswer;
     }
 
     public void deleteAnswer(Long questionId) {
@@ -75,6 +86,9 @@ public class AnswerService {
 
         answerRepository.delete(answer);
         answerRepository.flush();
+
+        entityCacheEvictor.evictAnswer(answer.getAnswerId());
+        publisher.publishEvent(new QuestionChangedEvent(this, questionId));
     }
 
     public Answer updateAnswer(Long questionId, Answer patchAnswer, CustomUserDetails customUserDetails) {
@@ -93,7 +107,12 @@ public class AnswerService {
             answer.setAnswerContext(patchAnswer.getAnswerContext());
         }
 
-        return answerRepository.save(answer);
+        Answer savedAnswer = answerRepository.save(answer);
+
+        entityCacheEvictor.evictAnswer(savedAnswer.getAnswerId());
+        publisher.publishEvent(new QuestionChangedEvent(this, questionId));
+
+        return savedAnswer;
     }
 
     public AnswerResponseDto convertToAnswerResponseDto(Answer answer) {
@@ -70,6 +70,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private String delegateAccessToken(User user) {
         // JWT의 Payload(데이터) 설정 claims -> Payload
         Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getUserId()); // 토큰에 사용자 ID 포함 (검증 時 DB 조회 없이 사용)
         claims.put("username", user.getEmail()); // 토큰에 사용자 이메일 포함
         claims.put("roles", user.getRoles()); // ★토큰에 사용자 권한 포함★
 
@@ -1,9 +1,11 @@
 package com.springboot.auth.filter;
 
+import com.springboot.auth.revocation.TokenRevocationService;
 import com.springboot.auth.userdetailservice.UsersDetailService;
 import com.springboot.auth.utils.AuthorityUtils;
 import com.springboot.auth.jwt.JwtTokenizer;
 import com.springboot.auth.utils.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,12 +28,15 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private final JwtTokenizer jwtTokenizer;
     private final AuthorityUtils authorityUtils;
     private final UsersDetailService usersDetailService;
+    private final TokenRevocationService tokenRevocationService;
 
     public JwtVerificationFilter(JwtTokenizer jwtTokenizer, AuthorityUtils authorityUtils,
-                                 UsersDetailService usersDetailService) {
+                                 UsersDetailService usersDetailService,
+                                 TokenRevocationService tokenRevocationService) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.usersDetailService = usersDetailService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     // 예외 처리하는 메서드
@@ -42,9 +47,12 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         try {
             String token = jwtTokenizer.resolveToken(request);  // 클라이언트에서 보낸 토큰을 가져옴
 
-            if (token != null && jwtTokenizer.validateToken(token)) {
+            // 토큰을 한번만 파싱하여 서명/만료 검증과 Claims 추출을 같이 처리 (유효하지 않으면 null)
+            Claims claims = token != null ? jwtTokenizer.parseValidClaims(token) : null;
+
+            // 로그아웃으로 폐기 된 토큰은 유효하지 않은 토큰으로 처리
+            if (claims != null && !tokenRevocationService.isRevoked(claims, token)) {
                 // 유효한 토큰이면, 인증 객체를 설정하여 인증 절차를 계속 진행
-                Map<String, Object> claims = jwtTokenizer.getClaims(token, jwtTokenizer.encodedBase64SecretKey(jwtTokenizer.getSecretKey())).getBody();
                 setAuthenticationToContext(claims);
             } else {
                 // 토큰이 유효하지 않으면 401 Unauthorized 응답을 반환
@@ -72,18 +80,6 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         return authorization == null || !authorization.startsWith("Bearer");
     }
 
-    // 요청에서 JWT를 추출하고, 서명을 검증한 후 Payload 정보를 반환하는 메서드
-    private Map<String, Object> verifyJws(HttpServletRequest request) {
-        // Athuorization Header에서 "Bearer"를 제거하고 JWT 추출
-        String jws = request.getHeader("Authorization").replace("Bearer", "");
-        // 비밀 키 (Base64 인코딩 된 형태)
-        String base64EncodedSecretKey = jwtTokenizer.encodedBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        // JWT 검증 및 디코딩하여 Payload(claims) 정보를 가져옴
-        Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
-
-        return claims;
-    }
     // JWT의 Payload 정보를 이용해 SpringSecurity의 인증 객체를 생성하고
     // SecurityContextHolder에 저장하는 메서드
     private void setAuthenticationToContext(Map<String, Object> claims) {
@@ -92,9 +88,13 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         // JWT에서 권한 정보 가져와서 SpringSecurity의 GrantedAtuhority 리스트로 변환
         List<GrantedAuthority> authorities = authorityUtils.createAuthorities((List) claims.get("roles"));
 
-        UsersDetailService.UserDetail userDetail = (UsersDetailService.UserDetail) usersDetailService.loadUserByUsername(username);
+        // userId Claim이 있으면 DB 조회 없이 사용, 이전에 발급된 토큰(Claim 없음)은 캐시 or DB에서 조회
+        Object userIdClaim = claims.get("userId");
+        Long userId = userIdClaim instanceof Number
+                ? ((Number) userIdClaim).longValue()
+                : usersDetailService.findUserIdByEmail(username);
 
-        CustomUserDetails customUserDetails = new CustomUserDetails(userDetail.getUserId(), username);
+        CustomUserDetails customUserDetails = new CustomUserDetails(userId, username);
 
 //        Long currentUserId = customUserDetails.getUserId();
         // 인증 객체 생성(비밀번호는 JWT기반 인증이므로 null 설정)
@@ -4,6 +4,8 @@ import com.springboot.auth.utils.AuthorityUtils;
 import com.springboot.auth.utils.CustomUserDetails;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
@@ -15,6 +17,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
@@ -22,6 +25,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 // 토큰을 생성, 검증하는 Class
@@ -41,8 +45,34 @@ public class JwtTokenizer {
     @Value("${jwt.refresh-token-expiration-minutes}")
     private int refreshTokenExpirationMinutes;
 
+    // 검증이 끝난 토큰의 Claims 캐시
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 애플리케이션 시작 時 한번만 생성해두는 Base64 인코딩 Key, 서명 Key, Parser
+    // 요청마다 Key를 디코딩하고 parserBuilder를 새로 만드는 비용을 없애기 위함 (JwtParser는 불변, thread-safe)
+    private String base64EncodedSecretKey;
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // DI 생성자 주입
+    public JwtTokenizer(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.base64EncodedSecretKey = encodedBase64SecretKey(secretKey);
+        this.signingKey = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     // encodedBase64SecretKey -> secretKey를 Base64로 인코딩하여 반환하는 메서드
     public String encodedBase64SecretKey(String secretKey) {
+        if (base64EncodedSecretKey != null && secretKey.equals(this.secretKey)) {
+            return base64EncodedSecretKey;
+        }
         return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
@@ -51,11 +81,12 @@ public class JwtTokenizer {
                                       String subject,
                                       Date expiration,
                                       String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        Key key = resolveKey(base64EncodedSecretKey);
 
         return Jwts.builder()
                 .setClaims(claims) // 토큰에 포함 할 데이터 설정
                 .setSubject(subject) // 토큰의 주제 설정
+                .setId(UUID.randomUUID().toString()) // 토큰 ID 설정 (로그아웃 時 폐기 목록에 사용)
                 .setIssuedAt(Calendar.getInstance().getTime()) // 토큰 발급시간을 현재시간 기준으로 생성
                 .setExpiration(expiration) // Access 토큰의 만료 시간 설정
                 .signWith(key) // secretKey를 사용해 서명 추가
@@ -66,10 +97,11 @@ public class JwtTokenizer {
     public String generateRefreshToken(String subject,
                                        Date expiration,
                                        String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        Key key = resolveKey(base64EncodedSecretKey);
 
         return Jwts.builder()
                 .setSubject(subject) // 토큰의 주제 설정
+                .setId(UUID.randomUUID().toString()) // 토큰 ID 설정
                 .setIssuedAt(Calendar.getInstance().getTime()) // 현재 시간을 기준으로 토큰 생성시간 설정
                 .setExpiration(expiration) // Refresh 토큰의 만료 시간 설정
                 .signWith(key) // secretKey를 사용해 서명 추가
@@ -78,30 +110,25 @@ public class JwtTokenizer {
 
     // Claims를 추출하는 메서드
     public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-        // ★★ parserBuilder를 통해 서명을 검증하여, 토큰이 변조되지 않았음을 확인 ★★
+        // ★★ parser를 통해 서명을 검증하여, 토큰이 변조되지 않았음을 확인 ★★
 
-        // parserBuilder 사용(검증 時) : 클라이언트가 서버에 보낸 JWT가 유효한지 확인
+        // parser 사용(검증 時) : 클라이언트가 서버에 보낸 JWT가 유효한지 확인
         // -> 서명이 올바른지, 토큰이 만료되었는지, 토큰의 구조가 올바른지 등 확인한다
 
-        // parserBuilder 사용 (추출 時) : 토큰에 포함 된 사용자 정보나 기타 데이터를 읽어야할 때 사용
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key) // 서명을 검증하기 위한 KEY 생성
-                .build()
+        // parser 사용 (추출 時) : 토큰에 포함 된 사용자 정보나 기타 데이터를 읽어야할 때 사용
+        return resolveParser(base64EncodedSecretKey)
                 .parseClaimsJws(jws); // JWT 파싱 후 서명을 검증하고 Claim 정보 반환
+    }
 
-        return claims;
+    // 설정된 secretKey로 서명을 검증하고 Claims를 추출하는 메서드 (미리 만들어둔 Parser 재사용)
+    public Jws<Claims> getClaims(String jws) {
+        return jwtParser.parseClaimsJws(jws);
     }
 
     // JWT 서명을 검증하는 메서드
     public void verifySignature(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        Jwts.parserBuilder()
-                .setSigningKey(key) // 서명을 검증 할 Key 생성
-                .build()
+        resolveParser(base64EncodedSecretKey)
                 .parseClaimsJws(jws); // JWT 파싱 후 서명을 검증 return (X)
-
     }
 
     // 토큰의 만료 시간을 계산하는 메서드
@@ -121,6 +148,24 @@ public class JwtTokenizer {
         return key;
     }
 
+    // 설정된 Key와 같다면 시작 時 만들어둔 Key를 재사용
+    private Key resolveKey(String base64EncodedSecretKey) {
+        if (base64EncodedSecretKey.equals(this.base64EncodedSecretKey)) {
+            return signingKey;
+        }
+        return getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+    }
+
+    // 설정된 Key와 같다면 시작 時 만들어둔 Parser를 재사용
+    private JwtParser resolveParser(String base64EncodedSecretKey) {
+        if (base64EncodedSecretKey.equals(this.base64EncodedSecretKey)) {
+            return jwtParser;
+        }
+        return Jwts.parserBuilder()
+                .setSigningKey(getKeyFromBase64EncodedKey(base64EncodedSecretKey))
+                .build();
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String authorizationHeader = request.getHeader("Authorization");
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
@@ -131,12 +176,22 @@ public class JwtTokenizer {
 
     // 토큰이 유효한지 확인하는 메서드
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    // 토큰을 한번만 파싱하여 유효성 검증과 Claims 추출을 같이 처리하는 메서드
+    // 이미 검증된 토큰이면 캐시된 Claims를 반환하고, 유효하지 않은 토큰(서명 오류, 만료, 구조 오류)이면 null 반환
+    public Claims parseValidClaims(String token) {
+        return verifiedTokenCache.get(token, this::verifyClaims);
+    }
+
+    // 캐시에 없는 토큰을 실제로 검증하는 메서드
+    private Claims verifyClaims(String token) {
         try {
-            // 토큰에서 클레임을 가져오고 서명을 검증하여 유효성 체크
-            Jws<Claims> claims = getClaims(token, encodedBase64SecretKey(secretKey));
-            return !claims.getBody().getExpiration().before(new Date());  // 만료되지 않은 토큰만 유효하다고 판단
-        } catch (Exception e) {
-            return false;  // 예외 발생 시 토큰이 유효하지 않다고 판단
+            // 만료된 토큰은 parser에서 ExpiredJwtException이 발생함
+            return getClaims(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;  // 예외 발생 시 토큰이 유효하지 않다고 판단
         }
     }
 
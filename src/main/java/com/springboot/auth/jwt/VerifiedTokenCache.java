@@ -0,0 +1,94 @@
+package com.springboot.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+// 서명 검증이 끝난 토큰의 Claims를 보관하는 Class
+// 같은 토큰이 반복해서 들어올 때 HMAC 검증과 JSON 파싱을 다시 하지 않도록 한다
+public class VerifiedTokenCache {
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-token-cache-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize) // 최대 보관 개수, 넘으면 오래 사용되지 않은 항목부터 제거
+                .expireAfter(new ClaimsExpiry()) // 토큰의 exp 시간이 지나면 제거
+                .recordStats()
+                .build();
+
+        // hit/miss, 제거 건수를 /actuator/metrics/cache.gets 등으로 노출 (cache=jwt.verified-token)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token");
+    }
+
+    // 캐시에 있으면 Claims 반환, 없으면 loader로 검증 後 저장 (loader가 null을 반환하면 저장하지 않음)
+    public Claims get(String token, Function<String, Claims> loader) {
+        return cache.get(digest(token), key -> loader.apply(token));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 토큰 원문 대신 SHA-256 digest를 Key로 사용 (메모리에 토큰 원문을 보관하지 않기 위함)
+    public static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 항목별 만료 시간을 토큰의 exp 기준으로 계산
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.springboot.auth.revocation;
+
+import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+// 로그아웃 된 토큰(폐기 토큰)을 관리하는 Class
+// 폐기 된 토큰 ID는 토큰 만료시간 만큼 TTL을 주어 Redis에 저장하고,
+// 각 서버는 Local Bloom Filter를 먼저 확인해서 폐기되지 않은 토큰은 Redis 조회 없이 통과시킨다
+public class TokenRevocationService implements MessageListener {
+    private static final String KEY_PREFIX = "revoked-token:";
+    private static final String CHANNEL = "token-revocation";
+    // pub/sub 메시지는 RedisTemplate의 값 Serializer와 상관없이 토큰 ID 문자열 그대로 주고받음
+    private static final RedisSerializer<String> MESSAGE_SERIALIZER = RedisSerializer.string();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JwtTokenizer jwtTokenizer;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    // 재생성 중인 Bloom Filter (재생성 중에 들어온 폐기 ID도 빠지지 않도록 같이 기록)
+    private BloomFilter rebuildingFilter;
+    // 폐기 ID 추가와 Bloom Filter 교체가 겹치지 않도록 하는 Lock
+    // (교체 직전 기존 Filter에만 추가된 ID가 새 Filter에서 빠지면 폐기 된 토큰이 통과됨)
+    private final Object filterLock = new Object();
+
+    public TokenRevocationService(RedisTemplate<String, Object> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  JwtTokenizer jwtTokenizer,
+                                  VerifiedTokenCache verifiedTokenCache,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.jwtTokenizer = jwtTokenizer;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    // pub/sub 구독 여부 (Redis에 연결할 수 없어 구독하지 못했다면 Bloom Filter 재생성 時 다시 시도)
+    private volatile boolean subscribed;
+
+    @PostConstruct
+    public void init() {
+        rebuildBloomFilter();
+    }
+
+    // Redis가 내려가 있어도 애플리케이션은 기동되도록 구독은 기동이 끝난 뒤에 시도
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        // Container가 시작되기 전(빈 초기화 時)에는 구독하지 않음
+        if (subscribed || !listenerContainer.isRunning()) {
+            return;
+        }
+
+        ChannelTopic topic = new ChannelTopic(CHANNEL);
+
+        try {
+            // 다른 서버에서 폐기한 토큰 ID를 pub/sub으로 전달받음
+            listenerContainer.addMessageListener(this, topic);
+            subscribed = true;
+        } catch (Exception e) {
+            // 다음 재시도에서 다시 등록할 수 있도록 등록을 되돌림
+            listenerContainer.removeMessageListener(this, topic);
+            log.warn("# Failed to subscribe token revocation channel", e);
+        }
+    }
+
+    // 토큰을 폐기하는 메서드 (이미 유효하지 않은 토큰이면 아무것도 하지 않음)
+    public void revoke(String token) {
+        Claims claims = jwtTokenizer.parseValidClaims(token);
+
+        if (claims == null) {
+            return;
+        }
+
+        String tokenId = getTokenId(claims, token);
+        long ttlMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+
+        if (ttlMillis > 0) {
+            // 토큰이 만료되면 폐기 목록에서도 자동으로 삭제되도록 TTL 설정
+            redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", ttlMillis, TimeUnit.MILLISECONDS);
+            publish(tokenId);
+        }
+
+        addToBloomFilter(tokenId);
+        verifiedTokenCache.invalidate(token);
+    }
+
+    // 폐기 된 토큰인지 확인하는 메서드
+    public boolean isRevoked(Claims claims, String token) {
+        String tokenId = getTokenId(claims, token);
+
+        // Bloom Filter에 없으면 확실히 폐기되지 않은 토큰 (Redis 조회 X)
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tokenId = MESSAGE_SERIALIZER.deserialize(message.getBody());
+
+        if (tokenId != null) {
+            addToBloomFilter(tokenId);
+        }
+    }
+
+    // Redis에 남아있는 폐기 토큰 ID로 Bloom Filter를 새로 생성하는 메서드
+    // 만료되어 Redis에서 사라진 ID가 Bloom Filter에 계속 쌓이지 않도록 주기적으로 실행
+    @Scheduled(initialDelayString = "${jwt.revocation.bloom-rebuild-interval-ms:600000}",
+            fixedDelayString = "${jwt.revocation.bloom-rebuild-interval-ms:600000}")
+    public void rebuildBloomFilter() {
+        subscribe();
+
+        BloomFilter newFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        synchronized (filterLock) {
+            rebuildingFilter = newFilter;
+        }
+
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        newFilter.put(key.substring(KEY_PREFIX.length()));
+                    }
+                }
+                return null;
+            });
+
+            synchronized (filterLock) {
+                bloomFilter = newFilter;
+                rebuildingFilter = null;
+            }
+        } catch (Exception e) {
+            // Redis에 연결할 수 없으면 기존 Bloom Filter를 그대로 사용
+            log.warn("# Failed to rebuild token revocation bloom filter", e);
+            synchronized (filterLock) {
+                rebuildingFilter = null;
+            }
+        }
+    }
+
+    // 조회(isRevoked)는 Lock 없이 bloomFilter만 읽고, 추가는 교체와 겹치지 않도록 Lock 안에서 처리 (폐기는 드물게 발생)
+    private void addToBloomFilter(String tokenId) {
+        synchronized (filterLock) {
+            bloomFilter.put(tokenId);
+
+            if (rebuildingFilter != null) {
+                rebuildingFilter.put(tokenId);
+            }
+        }
+    }
+
+    private void publish(String tokenId) {
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.publish(MESSAGE_SERIALIZER.serialize(CHANNEL), MESSAGE_SERIALIZER.serialize(tokenId)));
+    }
+
+    // 토큰 ID(jti)가 없는 이전 토큰은 토큰 digest를 ID로 사용
+    private String getTokenId(Claims claims, String token) {
+        String tokenId = claims.getId();
+
+        return tokenId != null ? tokenId : VerifiedTokenCache.digest(token);
+    }
+}
@@ -5,6 +5,7 @@ import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.user.entity.User;
 import com.springboot.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,6 +13,9 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -19,11 +23,20 @@ import java.util.Optional;
 public class UsersDetailService implements UserDetailsService {
     private final UserRepository userRepository;
     private final AuthorityUtils authorityUtils; // 사용자 권한을 생성하는 유틸 Class
+    // userId Claim이 없는 이전 토큰을 위한 email -> userId 캐시 (크기 제한, 가장 오래 사용되지 않은 항목부터 제거)
+    private final Map<String, Long> userIdCache;
 
     // DI 생성자 주입
-    public UsersDetailService(UserRepository userRepository, AuthorityUtils authorityUtils) {
+    public UsersDetailService(UserRepository userRepository, AuthorityUtils authorityUtils,
+                              @Value("${jwt.user-id-cache-size:1000}") int userIdCacheSize) {
         this.userRepository = userRepository;
         this.authorityUtils = authorityUtils;
+        this.userIdCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > userIdCacheSize;
+            }
+        });
     }
 
     @Override
@@ -37,6 +50,20 @@ public class UsersDetailService implements UserDetailsService {
         return new UserDetail(findUser);
     }
 
+    // email로 userId를 조회하는 메서드 (캐시에 없을 때만 DB 조회)
+    public Long findUserIdByEmail(String email) {
+        Long userId = userIdCache.get(email);
+
+        if (userId == null) {
+            User findUser = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+            userId = findUser.getUserId();
+            userIdCache.put(email, userId);
+        }
+
+        return userId;
+    }
+
     // 인증된 사용자 정보를 저장하기 위한 Inner Class
     // UserDetails 인터페이스를 구현하여 사용자의 정보를 제공한다.
     public final class UserDetail extends User implements UserDetails {
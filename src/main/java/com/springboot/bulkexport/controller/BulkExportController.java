@@ -0,0 +1,54 @@
+package com.springboot.bulkexport.controller;
+
+import com.springboot.bulkexport.service.BulkExporter;
+import com.springboot.bulkexport.service.ExportFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+
+// 질문, 회원 전체 내보내기 (ADMIN만 가능, SecurityConfiguration)
+// 페이지 단위로 나눠 요청하지 않고 한 번의 요청으로 전체를 NDJSON 또는 CSV로 내려받음
+@RestController
+@RequestMapping("/v1/admin/export")
+public class BulkExportController {
+    private final BulkExporter bulkExporter;
+    private final long timeoutMs;
+
+    public BulkExportController(BulkExporter bulkExporter,
+                                @Value("${bulk-export.timeout-ms:3600000}") long timeoutMs) {
+        this.bulkExporter = bulkExporter;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @GetMapping("/questions")
+    public WebAsyncTask<Void> exportQuestions(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                              HttpServletResponse response) {
+        return attachment(response, "questions", format, bulkExporter.exportQuestions(format));
+    }
+
+    @GetMapping("/users")
+    public WebAsyncTask<Void> exportUsers(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                          HttpServletResponse response) {
+        return attachment(response, "users", format, bulkExporter.exportUsers(format));
+    }
+
+    // 응답 Body는 applicationTaskExecutor에서 씀
+    // 시간 제한은 내보내기 요청에만 따로 적용 (다른 비동기 요청은 spring.mvc.async.request-timeout 기본값 그대로)
+    private WebAsyncTask<Void> attachment(HttpServletResponse response, String name, ExportFormat format,
+                                          StreamingResponseBody body) {
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+
+        return new WebAsyncTask<>(timeoutMs, () -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        });
+    }
+}
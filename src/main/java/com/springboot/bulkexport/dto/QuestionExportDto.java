@@ -0,0 +1,22 @@
+package com.springboot.bulkexport.dto;
+
+import com.springboot.question.entity.Question;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 질문 내보내기 한 행 (JPQL 생성자 Projection으로 바로 조회)
+@AllArgsConstructor
+@Getter
+public class QuestionExportDto {
+    private Long questionId;
+    private Long userId;
+    private String title;
+    private String questionContext;
+    private Question.QuestionStatus questionStatus;
+    private Question.QuestionVisibility questionVisibility;
+    private int viewCount;
+    private int likeCount;
+    private LocalDateTime createdAt;
+}
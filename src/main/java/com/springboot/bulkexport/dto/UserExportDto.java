@@ -0,0 +1,18 @@
+package com.springboot.bulkexport.dto;
+
+import com.springboot.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 회원 내보내기 한 행 (비밀번호, 권한 제외)
+@AllArgsConstructor
+@Getter
+public class UserExportDto {
+    private Long userId;
+    private String email;
+    private String name;
+    private User.UserStatus userStatus;
+    private LocalDateTime createdAt;
+}
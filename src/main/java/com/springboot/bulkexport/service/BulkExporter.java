@@ -0,0 +1,124 @@
+package com.springboot.bulkexport.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+// 질문, 회원 전체를 NDJSON / CSV로 내보내는 Class (관리자 전용)
+// - 읽기 전용 트랜잭션 안에서 DB Cursor(Stream)로 한 행씩 읽어 바로 응답에 씀 (Replica가 있으면 Replica에서 조회)
+// - DTO Projection으로 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않음
+// - 응답 쓰기는 클라이언트가 받는 속도만큼만 진행되고(blocking write), 그만큼만 DB에서 다음 행을 읽음
+// 전체 결과를 메모리에 모으지 않으므로 행 수와 상관없이 메모리 사용량이 일정함
+public class BulkExporter {
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+
+    public BulkExporter(ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        QuestionRepository questionRepository,
+                        UserRepository userRepository) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.questionRepository = questionRepository;
+        this.userRepository = userRepository;
+    }
+
+    public StreamingResponseBody exportQuestions(ExportFormat format) {
+        return out -> export(out, format, questionRepository::streamAllForExport);
+    }
+
+    public StreamingResponseBody exportUsers(ExportFormat format) {
+        return out -> export(out, format, userRepository::streamAllForExport);
+    }
+
+    private <T> void export(OutputStream out, ExportFormat format, Supplier<Stream<T>> query) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Stream을 닫아야 DB Cursor(ResultSet)도 닫힘
+                try (Stream<T> rows = query.get()) {
+                    write(out, format, rows.iterator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등 (트랜잭션은 롤백되고 Cursor는 닫힘)
+            log.warn("# Export stopped: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private <T> void write(OutputStream out, ExportFormat format, Iterator<T> rows) throws IOException {
+        long count = 0;
+        boolean header = format == ExportFormat.CSV;
+
+        while (rows.hasNext()) {
+            T row = rows.next();
+
+            if (format == ExportFormat.NDJSON) {
+                out.write(objectMapper.writeValueAsBytes(row));
+            } else {
+                Map<String, Object> values = objectMapper.convertValue(row, ROW_TYPE);
+                if (header) {
+                    writeCsvLine(out, values.keySet());
+                    out.write('\n');
+                    header = false;
+                }
+                writeCsvLine(out, values.values());
+            }
+            out.write('\n');
+            count++;
+        }
+
+        out.flush();
+        log.info("# Exported {} rows", count);
+    }
+
+    private void writeCsvLine(OutputStream out, Iterable<?> values) throws IOException {
+        StringBuilder line = new StringBuilder();
+        boolean first = true;
+
+        for (Object value : values) {
+            if (!first) {
+                line.append(',');
+            }
+            first = false;
+            if (value != null) {
+                line.append(escapeCsv(value.toString()));
+            }
+        }
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싸고 값 안의 큰따옴표는 두 번 씀
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,20 @@
+package com.springboot.bulkexport.service;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+// 내보내기 응답 Body 형식 (요청 파라미터 format=NDJSON / CSV)
+@Getter
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    // 첫 줄은 Header
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.bulkimport.controller;
+
+import com.springboot.bulkimport.service.BulkImporter;
+import com.springboot.bulkimport.service.ImportFormat;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+// 질문, 회원 일괄 등록 (ADMIN만 가능, SecurityConfiguration)
+// 요청 Body : NDJSON(application/x-ndjson) 또는 CSV(text/csv, 첫 줄은 Header)
+// 응답 Body : 행별 오류, chunk별 진행 상황, 마지막 요약을 NDJSON으로 처리하는 대로 전송
+@RestController
+@RequestMapping("/v1/admin/import")
+public class BulkImportController {
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final BulkImporter bulkImporter;
+
+    public BulkImportController(BulkImporter bulkImporter) {
+        this.bulkImporter = bulkImporter;
+    }
+
+    @PostMapping(value = "/questions", consumes = {NDJSON, "text/csv"})
+    public void importQuestions(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        prepareResponse(response);
+        bulkImporter.importQuestions(reader(request), ImportFormat.from(request.getContentType()), response.getOutputStream());
+    }
+
+    @PostMapping(value = "/users", consumes = {NDJSON, "text/csv"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        prepareResponse(response);
+        bulkImporter.importUsers(reader(request), ImportFormat.from(request.getContentType()), response.getOutputStream());
+    }
+
+    // 요청 Body를 한 번에 읽지 않고 한 줄씩 읽음
+    private BufferedReader reader(HttpServletRequest request) throws IOException {
+        return new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private void prepareResponse(HttpServletResponse response) {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+}
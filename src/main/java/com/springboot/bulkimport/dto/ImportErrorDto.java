@@ -0,0 +1,15 @@
+package com.springboot.bulkimport.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 등록하지 못한 행의 줄 번호와 사유
+@AllArgsConstructor
+@Getter
+public class ImportErrorDto {
+    private final String type = "error";
+    private long line;
+    private List<String> messages;
+}
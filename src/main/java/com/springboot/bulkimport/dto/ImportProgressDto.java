@@ -0,0 +1,14 @@
+package com.springboot.bulkimport.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// chunk를 저장할 때마다 출력하는 진행 상황 (마지막 줄은 type = "summary")
+@AllArgsConstructor
+@Getter
+public class ImportProgressDto {
+    private String type;
+    private long processed;
+    private long imported;
+    private long failed;
+}
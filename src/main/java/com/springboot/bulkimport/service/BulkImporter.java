@@ -0,0 +1,312 @@
+package com.springboot.bulkimport.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.auth.utils.AuthorityUtils;
+import com.springboot.bulkimport.dto.ImportErrorDto;
+import com.springboot.bulkimport.dto.ImportProgressDto;
+import com.springboot.question.dto.QuestionPostDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.mapper.QuestionMapper;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.question.service.QuestionPageCache;
+import com.springboot.user.dto.UserPostDto;
+import com.springboot.user.entity.User;
+import com.springboot.user.mapper.UserMapper;
+import com.springboot.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+// 다른 서비스에서 옮겨오는 질문, 회원을 NDJSON / CSV로 한 번에 등록하는 Class (관리자 전용)
+// - 요청 Body를 한 줄씩 읽어 기존 DTO(QuestionPostDto, UserPostDto)의 검증 규칙으로 검증
+// - 검증을 통과한 행을 chunkSize개씩 모아 chunk마다 별도 트랜잭션으로 저장 (JDBC batch INSERT)
+// - 처리 결과(행별 오류, chunk별 진행 상황)는 응답에 NDJSON으로 바로 출력
+// 파일 전체나 전체 결과를 메모리에 모으지 않으므로 파일 크기와 상관없이 메모리 사용량이 일정함
+// (Open Session In View로 요청 동안 EntityManager가 하나로 유지되므로 chunk를 저장할 때마다 영속성 컨텍스트를 비움)
+// 일괄 등록은 Outbox Event를 기록하지 않음 : 옮겨오는 회원은 다른 서비스에서 이미 가입한 회원이므로 가입 메일(USER_REGISTERED)을 보내지 않음
+public class BulkImporter {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+    private final QuestionMapper questionMapper;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final AuthorityUtils authorityUtils;
+    private final QuestionPageCache questionPageCache;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkImporter(ObjectMapper objectMapper,
+                        Validator validator,
+                        PlatformTransactionManager transactionManager,
+                        QuestionRepository questionRepository,
+                        UserRepository userRepository,
+                        QuestionMapper questionMapper,
+                        UserMapper userMapper,
+                        PasswordEncoder passwordEncoder,
+                        AuthorityUtils authorityUtils,
+                        QuestionPageCache questionPageCache,
+                        @Value("${bulk-import.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.questionRepository = questionRepository;
+        this.userRepository = userRepository;
+        this.questionMapper = questionMapper;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.authorityUtils = authorityUtils;
+        this.questionPageCache = questionPageCache;
+        this.chunkSize = chunkSize;
+    }
+
+    public void importQuestions(BufferedReader reader, ImportFormat format, OutputStream out) throws IOException {
+        run(reader, format, out, QuestionPostDto.class, this::saveQuestions);
+
+        // 새 질문이 목록에 보이도록 목록 캐시를 한 번만 비움
+        questionPageCache.invalidateAll();
+    }
+
+    public void importUsers(BufferedReader reader, ImportFormat format, OutputStream out) throws IOException {
+        run(reader, format, out, UserPostDto.class, this::saveUsers);
+    }
+
+    private <T> void run(BufferedReader reader, ImportFormat format, OutputStream out,
+                         Class<T> type, ChunkWriter<T> chunkWriter) throws IOException {
+        ImportReport report = new ImportReport(objectMapper, out);
+        List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+        List<String> header = null;
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.CSV && header == null) {
+                header = CsvLineParser.parse(line);
+                continue;
+            }
+
+            T dto;
+            try {
+                dto = format == ImportFormat.CSV
+                        ? objectMapper.convertValue(toMap(header, CsvLineParser.parse(line)), type)
+                        : objectMapper.readValue(line, type);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                report.error(lineNumber, List.of("Malformed row: " + causeMessage(e)));
+                continue;
+            }
+
+            Set<ConstraintViolation<T>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                report.error(lineNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .collect(Collectors.toList()));
+                continue;
+            }
+
+            chunk.add(new ImportRow<>(lineNumber, dto));
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, chunkWriter, report);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, chunkWriter, report);
+        }
+        report.summary();
+    }
+
+    // chunk 단위 트랜잭션으로 저장, 한 행 때문에 chunk 전체가 롤백되면 행 단위로 다시 저장해서 실패한 행만 골라냄
+    private <T> void saveChunk(List<ImportRow<T>> chunk, ChunkWriter<T> chunkWriter, ImportReport report) throws IOException {
+        try {
+            List<ImportErrorDto> errors = write(chunk, chunkWriter);
+            report.saved(chunk.size() - errors.size(), errors);
+        } catch (RuntimeException e) {
+            log.warn("# Bulk import chunk failed, retrying row by row: {}", causeMessage(e));
+
+            for (ImportRow<T> row : chunk) {
+                try {
+                    List<ImportErrorDto> errors = write(List.of(row), chunkWriter);
+                    report.saved(1 - errors.size(), errors);
+                } catch (RuntimeException rowException) {
+                    report.error(row.getLine(), List.of(causeMessage(rowException)));
+                }
+            }
+        }
+        report.progress();
+    }
+
+    // 저장한 엔티티와 조회한 작성자가 다음 chunk까지 남지 않도록 커밋 전에 flush 後 영속성 컨텍스트를 비움
+    // (롤백 된 경우에는 JpaTransactionManager가 비움)
+    private <T> List<ImportErrorDto> write(List<ImportRow<T>> rows, ChunkWriter<T> chunkWriter) {
+        return transactionTemplate.execute(status -> {
+            List<ImportErrorDto> errors = chunkWriter.write(rows);
+            entityManager.flush();
+            entityManager.clear();
+            return errors;
+        });
+    }
+
+    // 작성자를 chunk마다 한 번에 조회 (IN 쿼리 1번)
+    private List<ImportErrorDto> saveQuestions(List<ImportRow<QuestionPostDto>> rows) {
+        Set<Long> userIds = rows.stream()
+                .map(row -> row.getDto().getUserId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        List<ImportErrorDto> errors = new ArrayList<>();
+        List<Question> questions = new ArrayList<>(rows.size());
+
+        for (ImportRow<QuestionPostDto> row : rows) {
+            User user = users.get(row.getDto().getUserId());
+            if (user == null || user.getUserStatus() != User.UserStatus.USER_ACTIVE) {
+                errors.add(new ImportErrorDto(row.getLine(), List.of("userId: user not found")));
+                continue;
+            }
+
+            Question question = questionMapper.questionPostDtoToQuestion(row.getDto());
+            if (question.getQuestionStatus() == null) {
+                question.setQuestionStatus(Question.QuestionStatus.QUESTION_REGISTERED);
+            }
+            if (question.getQuestionVisibility() == null) {
+                question.setQuestionVisibility(Question.QuestionVisibility.QUESTION_PUBLIC);
+            }
+            question.setUser(user);
+            questions.add(question);
+        }
+
+        questionRepository.saveAll(questions);
+
+        return errors;
+    }
+
+    // 이미 가입된 Email은 chunk마다 한 번에 조회 (IN 쿼리 1번)
+    private List<ImportErrorDto> saveUsers(List<ImportRow<UserPostDto>> rows) {
+        Set<String> existingEmails = userRepository.findByEmailIn(rows.stream()
+                        .map(row -> row.getDto().getEmail())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(User::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<ImportErrorDto> errors = new ArrayList<>();
+        List<User> users = new ArrayList<>(rows.size());
+
+        for (ImportRow<UserPostDto> row : rows) {
+            // 이미 가입된 Email이거나 같은 chunk 안에서 중복된 Email
+            if (!existingEmails.add(row.getDto().getEmail())) {
+                errors.add(new ImportErrorDto(row.getLine(), List.of("email: user already exists")));
+                continue;
+            }
+
+            User user = userMapper.userPostDtoToUser(row.getDto());
+            user.setPassword(passwordEncoder.encode(user.getPassword()));
+            user.setRoles(authorityUtils.createRoles(user.getEmail()));
+            users.add(user);
+        }
+
+        userRepository.saveAll(users);
+
+        return errors;
+    }
+
+    private Map<String, String> toMap(List<String> header, List<String> values) {
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + values.size());
+        }
+
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // 빈 칸은 값이 없는 것으로 처리
+            row.put(header.get(i).trim(), values.get(i).isEmpty() ? null : values.get(i));
+        }
+        return row;
+    }
+
+    // 원인 예외 메시지의 첫 줄 (DB 오류의 SQL 문 등은 제외)
+    private String causeMessage(Exception e) {
+        String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        int lineEnd = message.indexOf('\n');
+
+        return lineEnd < 0 ? message : message.substring(0, lineEnd);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        // 저장하지 못한 행의 오류 목록 반환 (예외를 던지면 chunk 전체 롤백)
+        List<ImportErrorDto> write(List<ImportRow<T>> rows);
+    }
+
+    // 처리 결과를 NDJSON으로 출력하고 건수를 집계
+    private static class ImportReport {
+        private final ObjectMapper objectMapper;
+        private final OutputStream out;
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private ImportReport(ObjectMapper objectMapper, OutputStream out) {
+            this.objectMapper = objectMapper;
+            this.out = out;
+        }
+
+        private void error(long line, List<String> messages) throws IOException {
+            processed++;
+            failed++;
+            write(new ImportErrorDto(line, messages));
+        }
+
+        private void saved(int count, List<ImportErrorDto> errors) throws IOException {
+            processed += count;
+            imported += count;
+            for (ImportErrorDto error : errors) {
+                error(error.getLine(), error.getMessages());
+            }
+        }
+
+        // 진행 상황을 출력하고 클라이언트에 바로 전송
+        private void progress() throws IOException {
+            write(new ImportProgressDto("progress", processed, imported, failed));
+            out.flush();
+        }
+
+        private void summary() throws IOException {
+            write(new ImportProgressDto("summary", processed, imported, failed));
+            out.flush();
+            log.info("# Bulk import finished. processed: {}, imported: {}, failed: {}", processed, imported, failed);
+        }
+
+        private void write(Object value) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.springboot.bulkimport.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// CSV 한 줄을 값 목록으로 나누는 Class
+// 큰따옴표로 감싼 값 안의 쉼표, 두 번 쓴 큰따옴표("")를 처리 (값 안의 줄바꿈은 지원하지 않음)
+final class CsvLineParser {
+    private CsvLineParser() {
+    }
+
+    static List<String> parse(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+}
@@ -0,0 +1,13 @@
+package com.springboot.bulkimport.service;
+
+// 일괄 등록 요청 Body 형식 (Content-Type으로 구분)
+public enum ImportFormat {
+    // 한 줄에 JSON 객체 하나 (application/x-ndjson)
+    NDJSON,
+    // 첫 줄은 DTO 필드 이름으로 된 Header (text/csv)
+    CSV;
+
+    public static ImportFormat from(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("text/csv") ? CSV : NDJSON;
+    }
+}
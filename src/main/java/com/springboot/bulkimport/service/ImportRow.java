@@ -0,0 +1,12 @@
+package com.springboot.bulkimport.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검증을 통과한 한 행 (오류 출력에 사용할 줄 번호 포함)
+@Getter
+@AllArgsConstructor
+public class ImportRow<T> {
+    private final long line;
+    private final T dto;
+}
@@ -0,0 +1,87 @@
+package com.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// spring.datasource.replicas[0].url 이 설정되어 있을 때만 동작
+// 쓰기 트랜잭션은 spring.datasource(Primary), 읽기 전용 트랜잭션은 spring.datasource.replicas 로 보낸다
+// 각 Connection Pool은 이름(primary, replica-0 ...) 별로 hikaricp.* Metric을 남긴다
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replicas[0]", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-window-ms:3000}") long windowMillis,
+            @Value("${datasource.routing.read-your-writes-max-users:100000}") long maximumSize) {
+        return new ReadYourWritesTracker(Duration.ofMillis(windowMillis), maximumSize);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties primaryProperties,
+                                 Environment environment,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        List<DataSourceProperties> replicaProperties = Binder.get(environment)
+                .bind("spring.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+                .get();
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        DataSource primary = createDataSource(primaryProperties,
+                ReplicationRoutingDataSource.PRIMARY, metricsTrackerFactory);
+        targetDataSources.put(ReplicationRoutingDataSource.PRIMARY, primary);
+
+        List<String> replicaKeys = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            String key = ReplicationRoutingDataSource.replicaKey(i);
+            replicaKeys.add(key);
+            targetDataSources.put(key, createDataSource(replicaProperties.get(i), key, metricsTrackerFactory));
+        }
+
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(replicaKeys, readYourWritesTracker, meterRegistry);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        // 트랜잭션 밖(DDL 생성 등)에서는 Primary 사용
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        // 실제 Connection은 첫 SQL 실행 時 가져옴 (그때 트랜잭션의 read-only 여부가 정해져 있음)
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(DataSource dataSource) throws SQLException {
+        return new ReplicaHealthChecker(dataSource.unwrap(ReplicationRoutingDataSource.class));
+    }
+
+    private DataSource createDataSource(DataSourceProperties properties,
+                                        String poolName,
+                                        MicrometerMetricsTrackerFactory metricsTrackerFactory) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        return dataSource;
+    }
+}
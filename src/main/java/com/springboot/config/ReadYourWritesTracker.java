@@ -0,0 +1,70 @@
+package com.springboot.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.auth.utils.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 사용자별 마지막 쓰기 시점을 기억해서, 쓰기 직후 일정 시간(window) 동안은 그 사용자의 읽기를 Primary로 보내는 Class
+// Replica는 Primary보다 늦게 반영(복제 지연)되므로, 방금 글을 쓴 사용자가 자신의 변경을 못 보는 문제를 막기 위함
+public class ReadYourWritesTracker {
+    // userId -> 마지막 쓰기 커밋 시간 (window가 지나면 자동 삭제)
+    private final Cache<Long, Long> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    // 현재 쓰기 트랜잭션이 커밋되면 현재 사용자를 최근 쓰기 사용자로 기록
+    // 트랜잭션에서 데이터를 변경할 때마다 호출되지만 트랜잭션당 한 번만 등록 (롤백 된 트랜잭션은 기록하지 않음)
+    public void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, System.currentTimeMillis());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+            }
+        });
+    }
+
+    // 현재 사용자가 window 안에 쓰기를 했다면 true (Primary에서 읽어야 함)
+    public boolean isPinnedToPrimary() {
+        Long userId = currentUserId();
+
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    // 인증되지 않은 요청(회원가입, 스케줄러 등)은 null
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
+            return null;
+        }
+
+        return ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+    }
+}
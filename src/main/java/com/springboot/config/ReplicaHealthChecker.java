@@ -0,0 +1,18 @@
+package com.springboot.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+// Replica를 읽기에 사용해도 되는지 주기적으로 확인하는 Class
+// 기동 직후(ddl-auto로 Primary 스키마가 만들어진 後) 처음 확인하기 전까지는 모든 읽기를 Primary에서 처리
+public class ReplicaHealthChecker {
+    private final ReplicationRoutingDataSource routingDataSource;
+
+    public ReplicaHealthChecker(ReplicationRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.replica-check-interval-ms:30000}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas();
+    }
+}
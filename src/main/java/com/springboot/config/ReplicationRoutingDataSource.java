@@ -0,0 +1,174 @@
+package com.springboot.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+// 현재 트랜잭션이 읽기 전용이면 Replica, 아니면 Primary DataSource로 라우팅하는 DataSource
+// 트랜잭션 속성이 정해진 後 Connection을 가져오도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다
+// Replica는 Primary의 테이블을 모두 가지고 있는지 확인(checkReplicas)된 後에만 사용하고, 확인 전이나 장애 時에는 Primary에서 읽는다
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    // Replica가 여러 대면 "replica-0", "replica-1" ... 순서대로(Round-Robin) 사용
+    private final List<String> replicaKeys;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger replicaIndex = new AtomicInteger();
+    // 읽기에 사용할 수 있는 Replica (checkReplicas()가 확인한 Replica만 포함)
+    private final Set<String> availableReplicas = ConcurrentHashMap.newKeySet();
+
+    // 라우팅 경로별 Connection 요청 수, Replica 장애로 Primary를 대신 사용한 횟수
+    private final Map<String, Counter> routeCounters = new HashMap<>();
+    private final Counter pinnedCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicationRoutingDataSource(List<String> replicaKeys,
+                                        ReadYourWritesTracker readYourWritesTracker,
+                                        MeterRegistry meterRegistry) {
+        this.replicaKeys = replicaKeys;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        routeCounters.put(PRIMARY, routeCounter(meterRegistry, PRIMARY));
+        replicaKeys.forEach(key -> routeCounters.put(key, routeCounter(meterRegistry, key)));
+        this.pinnedCounter = Counter.builder("datasource.routing.pinned")
+                .description("Read-only transactions sent to the primary inside the read-your-writes window")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("datasource.routing.fallback")
+                .description("Read-only transactions sent to the primary because a replica was unavailable")
+                .register(meterRegistry);
+        Gauge.builder("datasource.routing.replicas.available", availableReplicas, Set::size)
+                .description("Replicas that passed the last schema check")
+                .register(meterRegistry);
+    }
+
+    public static String replicaKey(int index) {
+        return REPLICA + "-" + index;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = resolveKey();
+        routeCounters.get(key).increment();
+
+        return key;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+
+        if (PRIMARY.equals(key)) {
+            Connection connection = getTarget(PRIMARY).getConnection();
+
+            // 쓰기 트랜잭션에서 실제로 데이터를 변경하면 커밋 後 해당 사용자의 읽기를 잠시 Primary로 고정
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return WriteDetectingConnection.wrap(connection, readYourWritesTracker::recordWriteOnCommit);
+            }
+            return connection;
+        }
+
+        try {
+            return getTarget(key).getConnection();
+        } catch (SQLException e) {
+            // Replica에서 Connection을 얻지 못하면 다음 확인 때까지 제외하고 Primary에서 읽음
+            log.warn("# Replica '{}' is unavailable, falling back to primary", key, e);
+            availableReplicas.remove(key);
+            fallbackCounter.increment();
+            return getTarget(PRIMARY).getConnection();
+        }
+    }
+
+    // 각 Replica가 Primary의 테이블을 모두 가지고 있는지 확인해서 읽기에 사용할 Replica를 정함
+    // (스키마가 없거나 복제가 덜 된 Replica, 연결할 수 없는 Replica는 제외)
+    public void checkReplicas() {
+        Set<String> requiredTables;
+        try (Connection primary = getTarget(PRIMARY).getConnection()) {
+            requiredTables = tableNames(primary);
+        } catch (SQLException e) {
+            log.warn("# Failed to read primary schema, keeping current replica state", e);
+            return;
+        }
+
+        for (String key : replicaKeys) {
+            try (Connection replica = getTarget(key).getConnection()) {
+                Set<String> missingTables = new HashSet<>(requiredTables);
+                missingTables.removeAll(tableNames(replica));
+
+                if (missingTables.isEmpty()) {
+                    if (availableReplicas.add(key)) {
+                        log.info("# Replica '{}' is available", key);
+                    }
+                } else {
+                    availableReplicas.remove(key);
+                    log.warn("# Replica '{}' is missing tables {}, reading from primary", key, missingTables);
+                }
+            } catch (SQLException e) {
+                availableReplicas.remove(key);
+                log.warn("# Replica '{}' is unavailable, reading from primary", key, e);
+            }
+        }
+    }
+
+    private String resolveKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            pinnedCounter.increment();
+            return PRIMARY;
+        }
+
+        // 사용할 수 있는 Replica를 순서대로 찾고, 하나도 없으면 Primary에서 읽음
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get(Math.floorMod(replicaIndex.getAndIncrement(), replicaKeys.size()));
+            if (availableReplicas.contains(key)) {
+                return key;
+            }
+        }
+
+        fallbackCounter.increment();
+        return PRIMARY;
+    }
+
+    private static Set<String> tableNames(Connection connection) throws SQLException {
+        Set<String> tableNames = new HashSet<>();
+
+        try (ResultSet tables = connection.getMetaData()
+                .getTables(null, connection.getSchema(), "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                tableNames.add(tables.getString("TABLE_NAME"));
+            }
+        }
+        return tableNames;
+    }
+
+    private DataSource getTarget(String key) {
+        return getResolvedDataSources().get(key);
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out per routing target")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
@@ -2,6 +2,7 @@ package com.springboot.config;
 
 import com.springboot.auth.handler.UserAccessDeniedHandler;
 import com.springboot.auth.handler.UserAuthenticationEntryPoint;
+import com.springboot.auth.revocation.TokenRevocationService;
 import com.springboot.auth.userdetailservice.UsersDetailService;
 import com.springboot.auth.utils.AuthorityUtils;
 import com.springboot.auth.filter.JwtAuthenticationFilter;
@@ -33,13 +34,16 @@ public class SecurityConfiguration {
     private final JwtTokenizer jwtTokenizer;
     private final AuthorityUtils authorityUtils;
     private final UsersDetailService usersDetailService;
+    private final TokenRevocationService tokenRevocationService;
 
     public SecurityConfiguration(JwtTokenizer jwtTokenizer,
                                  AuthorityUtils authorityUtils,
-                                 UsersDetailService usersDetailService) {
+                                 UsersDetailService usersDetailService,
+                                 TokenRevocationService tokenRevocationService) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.usersDetailService = usersDetailService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Bean
@@ -119,6 +123,15 @@ public class SecurityConfiguration {
                         // 특정 like 삭제 (USER, ADMIN 가능)
                         .antMatchers(HttpMethod.DELETE, "/*/likes").hasAnyRole("USER", "ADMIN")
 
+                        // 질문, 회원 일괄 등록 등 관리자 기능 (ADMIN만 가능)
+                        .antMatchers("/*/admin/**").hasRole("ADMIN")
+
+                        // Actuator
+
+                        // 상태 확인은 모두 허용, Metric 등 나머지는 ADMIN만 가능
+                        .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .antMatchers("/actuator/**").hasRole("ADMIN")
+
                         .anyRequest().permitAll()
 
                 );
@@ -159,7 +172,7 @@ public class SecurityConfiguration {
             jwtAuthenticationFilter.setAuthenticationFailureHandler(new UserAuthenticationFailureHandler());
 
             // JWT 검증 필터 설정
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, usersDetailService);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, usersDetailService, tokenRevocationService);
 
             // FilterChain에 추가 (인증필터 後 검증 필터 실행)
             builder.addFilter(jwtAuthenticationFilter)
@@ -4,6 +4,7 @@ import org.springframework.aop.Advisor;
 import org.springframework.aop.aspectj.AspectJExpressionPointcut;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
@@ -14,7 +15,11 @@ import org.springframework.transaction.interceptor.TransactionInterceptor;
 import java.util.HashMap;
 import java.util.Map;
 
-//@Configuration
+// com.springboot.*.service 패키지의 *Service 클래스에 공통으로 적용하는 트랜잭션 설정
+// 조회 메서드(find*, get*, verify*, match*)는 읽기 전용 트랜잭션 -> Hibernate flush, dirty checking 스냅샷 생략,
+// JDBC Connection read-only 설정 (ReplicationRoutingDataSource가 있으면 Replica로 라우팅)
+// 그 외 메서드는 읽기/쓰기 트랜잭션
+@Configuration
 public class TxConfig {
     private final TransactionManager transactionManager;
 
@@ -38,6 +43,9 @@ public class TxConfig {
 
         Map<String, TransactionAttribute> txMethods = new HashMap<>();
         txMethods.put("find*", txFindAttribute);
+        txMethods.put("get*", txFindAttribute);
+        txMethods.put("verify*", txFindAttribute);
+        txMethods.put("match*", txFindAttribute);
         txMethods.put("*", txAttribute);
 
         txAttributeSource.setNameMap(txMethods);
@@ -48,8 +56,13 @@ public class TxConfig {
     @Bean
     public Advisor txAdvisor() {
         AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
-        pointcut.setExpression("execution(* com.codestates.coffee.service." +
-                "CoffeeService.*(..))");
+        // 파일 저장(StorageService)은 DB를 사용하지 않으므로 트랜잭션(Connection 점유) 대상에서 제외
+        // 질문 등록은 이미지 업로드가 끝난 後 TransactionTemplate으로 저장하므로 제외
+        // 좋아요 등록은 커밋 時 발생하는 Unique 제약조건 위반을 처리하기 위해 TransactionTemplate으로 저장하므로 제외
+        pointcut.setExpression("execution(* com.springboot.*.service.*Service.*(..)) " +
+                "&& !execution(* com.springboot.*.service.*StorageService.*(..)) " +
+                "&& !execution(* com.springboot.question.service.QuestionService.createQuestion(..)) " +
+                "&& !execution(* com.springboot.like.service.LikeService.addLike(..))");
 
         return new DefaultPointcutAdvisor(pointcut, txAdvice());
     }
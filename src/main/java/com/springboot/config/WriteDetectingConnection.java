@@ -0,0 +1,63 @@
+package com.springboot.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+
+// Connection에서 만든 Statement가 실제로 데이터를 변경(INSERT/UPDATE/DELETE)하면 onWrite를 실행하는 Connection Proxy
+// 쓰기 트랜잭션이라도 조회만 했다면 onWrite는 실행되지 않음
+final class WriteDetectingConnection {
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> UPDATE_METHODS = Set.of("executeUpdate", "executeLargeUpdate",
+            "executeBatch", "executeLargeBatch");
+
+    private WriteDetectingConnection() {
+    }
+
+    static Connection wrap(Connection connection, Runnable onWrite) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                return wrapStatement((Statement) result, onWrite);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, Runnable onWrite) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        return proxy(type, (proxy, method, args) -> {
+            Object result = invoke(statement, method, args);
+
+            // execute()는 결과가 ResultSet이 아니면(false) 변경 건수를 반환하는 SQL
+            if (UPDATE_METHODS.contains(method.getName())
+                    || (method.getName().equals("execute") && Boolean.FALSE.equals(result))) {
+                onWrite.run();
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(WriteDetectingConnection.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
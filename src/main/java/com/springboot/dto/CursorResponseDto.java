@@ -0,0 +1,17 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// cursor 기반 페이지 응답 (nextCursor가 null이면 마지막 페이지)
+@AllArgsConstructor
+// 목록 캐시(Redis)에 저장된 JSON 역직렬화에 사용
+@NoArgsConstructor
+@Getter
+public class CursorResponseDto<T> {
+    private List<T> data;
+    private String nextCursor;
+}
@@ -1,12 +1,15 @@
 package com.springboot.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
 
 
 @Getter
+// 목록 캐시(Redis)에 저장된 JSON 역직렬화에 사용
+@NoArgsConstructor
 public class MultiResponseDto<T> {
     private List<T> data;
     private PageInfo pageInfo;
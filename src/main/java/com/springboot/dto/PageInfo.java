@@ -2,8 +2,11 @@ package com.springboot.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
+// 목록 캐시(Redis)에 저장된 JSON 역직렬화에 사용
+@NoArgsConstructor
 @Getter
 public class PageInfo {
     private int page;
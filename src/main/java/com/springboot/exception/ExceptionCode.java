@@ -13,7 +13,9 @@ public enum ExceptionCode {
     USER_NOT_CREATED(400, "User not created"),
     USER_FORBIDDEN(403, "Forbidden User"),
     ANSWER_NOT_FOUND(404, "Answer not found"),
-    FORBIDDEN_ACCESS(403, "비밀글입니다");
+    FORBIDDEN_ACCESS(403, "비밀글입니다"),
+    INVALID_SORT_CRITERIA(400, "Invalid sort criteria"),
+    INVALID_CURSOR(400, "Invalid cursor");
 
     @Getter
     private int status;
@@ -0,0 +1,55 @@
+package com.springboot.helper.cache;
+
+import com.springboot.answer.entity.Answer;
+import com.springboot.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+
+@Component
+// 상태가 크게 바뀌는 작업(회원 탈퇴, 답변 변경) 後 2차 캐시를 명시적으로 비우는 Class
+// (Question은 2차 캐시를 사용하지 않음)
+// 트랜잭션이 커밋된 後에 비워서, 커밋 전 다른 요청이 이전 값을 다시 캐시에 올리는 경우를 막음
+public class EntityCacheEvictor {
+    private static final String USER_ROLES_REGION = User.class.getName() + ".roles";
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    // 회원과 권한을 비움
+    public void evictUser(User user) {
+        Long userId = user.getUserId();
+
+        afterCommit(() -> {
+            sessionFactory.getCache().evictEntityData(User.class, userId);
+            sessionFactory.getCache().evictCollectionData(USER_ROLES_REGION, userId);
+        });
+    }
+
+    public void evictAnswer(Long answerId) {
+        if (answerId != null) {
+            afterCommit(() -> sessionFactory.getCache().evictEntityData(Answer.class, answerId));
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        // 트랜잭션 밖에서 호출되면 바로 비움
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -1,11 +1,25 @@
 package com.springboot.helper.email;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
 
 @Configuration
 public class EmailConfiguration {
+    // SMTP 서버가 설정되어 있으면 실제로 전송
     @Bean
+    @ConditionalOnProperty(prefix = "spring.mail", name = "host")
+    public EmailSendable smtpEmailSendable(JavaMailSender mailSender,
+                                           @Value("${mail.address.from:no-reply@gmail.com}") String from,
+                                           @Value("${mail.address.admin}") String admin) {
+        return new SmtpEmailSendable(mailSender, from, admin);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(EmailSendable.class)
     public EmailSendable emailSendable() {
         return new MockEmailSendable();
     }
@@ -0,0 +1,220 @@
+package com.springboot.helper.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+// 메일을 크기가 정해진 대기열에 넣고, 정해진 수의 Worker Thread가 여러 건씩 묶어서 전송하는 Class
+// 요청마다 Thread를 만들지 않으므로 가입 요청이 몰려도 Thread 수가 늘어나지 않음
+// 전송에 실패한 메일만 간격을 늘려가며(backoff) 다시 전송하고, 끝까지 실패한 메일만 실패 처리(onFailure)를 실행
+// 대기열이 가득 찬 경우, 종료 중인 경우에는 실패 처리하지 않고 호출한 쪽에 false를 반환 (호출한 쪽에서 다시 시도)
+public class EmailDeliveryQueue {
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final BlockingQueue<Delivery> queue;
+    private final EmailSender emailSender;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long shutdownTimeoutMillis;
+    private final Timer latencyTimer;
+    private final Timer failedLatencyTimer;
+    private final Counter rejectedCounter;
+    private final Counter retryCounter;
+
+    private volatile boolean running = true;
+
+    public EmailDeliveryQueue(EmailSender emailSender,
+                              MeterRegistry meterRegistry,
+                              @Value("${mail.delivery.queue-capacity:1000}") int queueCapacity,
+                              @Value("${mail.delivery.workers:2}") int workerCount,
+                              @Value("${mail.delivery.batch-size:50}") int batchSize,
+                              @Value("${mail.delivery.max-attempts:3}") int maxAttempts,
+                              @Value("${mail.delivery.initial-backoff-ms:1000}") long initialBackoffMillis,
+                              @Value("${mail.delivery.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.emailSender = emailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+        Gauge.builder("email.delivery.queue.size", queue, BlockingQueue::size)
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+        // 대기열에 넣은 시점부터 전송이 끝날 때까지 걸린 시간
+        this.latencyTimer = Timer.builder("email.delivery.latency")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedLatencyTimer = Timer.builder("email.delivery.latency")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("email.delivery.rejected")
+                .description("Emails rejected because the queue was full or shutting down")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("email.delivery.retries")
+                .register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-delivery-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    // 대기열에 메일 추가 (대기열이 가득 찼거나 종료 중이면 기다리지 않고 false 반환, onFailure는 실행하지 않음)
+    public boolean enqueue(String message, Runnable onFailure) {
+        if (!running || !queue.offer(new Delivery(message, onFailure))) {
+            rejectedCounter.increment();
+            log.warn("# Email delivery queue is full or shutting down. Rejecting email.");
+            return false;
+        }
+        return true;
+    }
+
+    // 새 메일은 받지 않고, 대기열에 남은 메일을 shutdownTimeoutMillis까지 모두 전송한 後 종료
+    // 시간 안에 끝내지 못한 메일은 로그만 남김 (실패 처리하지 않음)
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+
+        if (!workers.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (!queue.isEmpty()) {
+            log.warn("# {} emails were not sent before shutdown", queue.size());
+        }
+    }
+
+    private void work() {
+        // 종료 중이라도 대기열에 남은 메일은 모두 전송
+        while (running || !queue.isEmpty()) {
+            List<Delivery> batch = new ArrayList<>(batchSize);
+
+            try {
+                // 대기열에 메일이 들어올 때까지 기다렸다가 쌓여 있는 메일을 batchSize까지 한 번에 꺼냄
+                // (종료 여부를 확인할 수 있도록 일정 시간마다 깨어남)
+                Delivery first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 종료 대기 시간을 넘겨 중단된 경우 (전송 여부를 알 수 없으므로 실패 처리하지 않음)
+                log.warn("# Email delivery interrupted during shutdown. {} emails may not have been sent", batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("# Unexpected error while delivering emails", e);
+            }
+        }
+    }
+
+    // 묶음을 전송하고, 실패한 메일만 골라서 다시 전송 (이미 전송된 메일은 다시 보내지 않음)
+    private void deliver(List<Delivery> batch) throws InterruptedException {
+        List<Delivery> pending = batch;
+        long backoffMillis = initialBackoffMillis;
+
+        for (int attempt = 1; ; attempt++) {
+            List<Delivery> failed = send(pending);
+
+            if (failed.isEmpty()) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                log.error("# Failed to send {} emails after {} attempts", failed.size(), attempt);
+                failed.forEach(delivery -> {
+                    failedLatencyTimer.record(delivery.elapsedNanos(), TimeUnit.NANOSECONDS);
+                    delivery.fail();
+                });
+                return;
+            }
+
+            log.warn("# Failed to send {} emails (attempt {}), retrying in {} ms", failed.size(), attempt, backoffMillis);
+            retryCounter.increment(failed.size());
+            Thread.sleep(backoffMillis);
+            backoffMillis *= 2;
+            pending = failed;
+        }
+    }
+
+    // 전송에 실패한 메일 목록 반환 (전송 자체가 실패하면 전부 실패)
+    private List<Delivery> send(List<Delivery> deliveries) throws InterruptedException {
+        List<String> messages = deliveries.stream()
+                .map(delivery -> delivery.message)
+                .collect(Collectors.toList());
+        Set<Integer> failedIndexes;
+
+        try {
+            failedIndexes = emailSender.sendEmails(messages);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("# Failed to send {} emails", deliveries.size(), e);
+            return deliveries;
+        }
+
+        List<Delivery> failed = new ArrayList<>(failedIndexes.size());
+        for (int i = 0; i < deliveries.size(); i++) {
+            Delivery delivery = deliveries.get(i);
+
+            if (failedIndexes.contains(i)) {
+                failed.add(delivery);
+            } else {
+                latencyTimer.record(delivery.elapsedNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return failed;
+    }
+
+    private static class Delivery {
+        private final String message;
+        private final Runnable onFailure;
+        private final long enqueuedAt = System.nanoTime();
+
+        private Delivery(String message, Runnable onFailure) {
+            this.message = message;
+            this.onFailure = onFailure;
+        }
+
+        private long elapsedNanos() {
+            return System.nanoTime() - enqueuedAt;
+        }
+
+        private void fail() {
+            try {
+                onFailure.run();
+            } catch (RuntimeException e) {
+                log.error("# Failed to handle email delivery failure", e);
+            }
+        }
+    }
+}
@@ -2,7 +2,27 @@ package com.springboot.helper.email;
 
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 public interface EmailSendable {
     void send(String message) throws InterruptedException;
+
+    // 여러 메일을 한 번에 전송하고, 전송에 실패한 메일의 순번(messages의 index)을 반환
+    // (SMTP Connection을 재사용할 수 있는 구현체는 재정의해서 한 Connection으로 전송)
+    // 한 메일이 실패해도 나머지 메일은 계속 전송 (예외를 던지면 전체 실패로 처리)
+    default Set<Integer> sendAll(List<String> messages) throws InterruptedException {
+        Set<Integer> failed = new HashSet<>();
+
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                send(messages.get(i));
+            } catch (RuntimeException e) {
+                failed.add(i);
+            }
+        }
+        return failed;
+    }
 }
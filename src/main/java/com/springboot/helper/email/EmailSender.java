@@ -3,6 +3,9 @@ package com.springboot.helper.email;
 import org.springframework.mail.MailSendException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 public class EmailSender {
     private final EmailSendable emailSendable;
@@ -15,4 +18,10 @@ public class EmailSender {
             InterruptedException {
         emailSendable.send(message);
     }
+
+    // 전송에 실패한 메일의 순번(messages의 index) 반환
+    public Set<Integer> sendEmails(List<String> messages) throws MailSendException,
+            InterruptedException {
+        return emailSendable.sendAll(messages);
+    }
 }
@@ -0,0 +1,80 @@
+package com.springboot.helper.email;
+
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// SMTP 서버로 메일을 전송하는 EmailSendable (spring.mail.host가 설정되어 있을 때 사용)
+// 여러 메일은 SMTP Connection 하나로 이어서 전송하고, 실패한 메일만 따로 알려줌
+public class SmtpEmailSendable implements EmailSendable {
+    private static final String SUBJECT = "[알림] 회원 가입";
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String to;
+
+    public SmtpEmailSendable(JavaMailSender mailSender, String from, String to) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void send(String message) {
+        mailSender.send(createMessage(message));
+    }
+
+    @Override
+    public Set<Integer> sendAll(List<String> messages) {
+        Set<Integer> failed = new HashSet<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+        List<Integer> indexes = new ArrayList<>(messages.size());
+
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                mimeMessages.add(createMessage(messages.get(i)));
+                indexes.add(i);
+            } catch (MailSendException e) {
+                failed.add(i);
+            }
+        }
+
+        try {
+            // 배열로 넘기면 JavaMailSender가 한 Connection으로 모두 전송하고, 실패한 메일은 예외에 모아서 알려줌
+            mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 서버에 연결하지 못한 경우 등 메일별 실패 정보가 없으면 전체 실패
+            if (e.getFailedMessages().isEmpty()) {
+                throw e;
+            }
+            for (int i = 0; i < mimeMessages.size(); i++) {
+                if (e.getFailedMessages().containsKey(mimeMessages.get(i))) {
+                    failed.add(indexes.get(i));
+                }
+            }
+        }
+        return failed;
+    }
+
+    private MimeMessage createMessage(String text) {
+        MimeMessage message = mailSender.createMimeMessage();
+
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+            helper.setFrom(from);
+            helper.setTo(to);
+            helper.setSubject(SUBJECT);
+            helper.setText(text);
+        } catch (MessagingException e) {
+            throw new MailSendException("Failed to create email message", e);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.springboot.helper.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 질문이 등록되거나 응답 내용(제목, 내용, 상태, 답변, 좋아요 수)이 바뀌었을 때 발행하는 Event
+@Getter
+public class QuestionChangedEvent extends ApplicationEvent {
+    private Long questionId;
+    public QuestionChangedEvent(Object source, Long questionId) {
+        super(source);
+        this.questionId = questionId;
+    }
+}
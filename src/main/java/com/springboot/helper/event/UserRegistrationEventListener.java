@@ -1,41 +1,43 @@
 package com.springboot.helper.event;
 
-import com.springboot.helper.email.EmailSender;
-import com.springboot.user.entity.User;
+import com.springboot.helper.email.EmailDeliveryQueue;
+import com.springboot.outbox.entity.OutboxEvent;
+import com.springboot.outbox.service.OutboxSubscriber;
 import com.springboot.user.service.UserService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.EventListener;
-import org.springframework.mail.MailSendException;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
 
-@EnableAsync
-@Configuration
 @Component
 @Slf4j
-public class UserRegistrationEventListener {
-    private final EmailSender emailSender;
+// 회원 가입(USER_REGISTERED) Outbox Event를 받아 가입 메일을 대기열에 넣음 (전송은 EmailDeliveryQueue의 Worker가 담당)
+public class UserRegistrationEventListener implements OutboxSubscriber {
+    private final EmailDeliveryQueue emailDeliveryQueue;
     private final UserService userService;
 
-    public UserRegistrationEventListener(EmailSender emailSender, UserService userService) {
-        this.emailSender = emailSender;
+    public UserRegistrationEventListener(EmailDeliveryQueue emailDeliveryQueue, UserService userService) {
+        this.emailDeliveryQueue = emailDeliveryQueue;
         this.userService = userService;
     }
 
-    @Async
-    @EventListener
-    public void listen(UserRegistrationApplicationEvent event) throws Exception {
-        try {
-            // 전송할 메시지를 생성했다고 가정.
-            String message = "any email message";
-            emailSender.sendEmail(message);
-        } catch (MailSendException e) {
-            e.printStackTrace();
+    @Override
+    public boolean supports(OutboxEvent.EventType eventType) {
+        return eventType == OutboxEvent.EventType.USER_REGISTERED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        // 전송할 메시지를 생성했다고 가정.
+        String message = "any email message";
+        Long userId = event.getAggregateId();
+
+        boolean enqueued = emailDeliveryQueue.enqueue(message, () -> {
             log.error("MailSendException: rollback for Member Registration:");
-            User user = event.getUser();
-            userService.deleteUser(user.getUserId());
+            userService.deleteUser(userId);
+        });
+
+        // 대기열이 가득 찼거나 종료 중이면 전달 실패로 보고 OutboxDispatcher가 다음 주기에 다시 전달
+        if (!enqueued) {
+            throw new IllegalStateException("Email delivery queue rejected registration email for user " + userId);
         }
     }
 }
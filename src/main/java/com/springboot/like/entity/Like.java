@@ -13,11 +13,17 @@ import javax.persistence.*;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "LIKES")
+// 한 사용자는 같은 질문에 좋아요를 한번만 누를 수 있음 (중복 좋아요는 DB 제약조건으로 막음)
+// 사용자 + 질문 조회는 Unique 제약조건 인덱스, 질문별 조회(findByQuestion)는 DB가 외래키(QUESTION_ID)에 만드는 인덱스를 사용
+@Table(name = "LIKES", uniqueConstraints = {
+        @UniqueConstraint(name = Like.USER_QUESTION_UNIQUE_CONSTRAINT, columnNames = {"USER_ID", "QUESTION_ID"})
+})
 public class Like extends BaseEntity {
+    public static final String USER_QUESTION_UNIQUE_CONSTRAINT = "UK_LIKES_USER_QUESTION";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "likes_seq_generator")
+    @SequenceGenerator(name = "likes_seq_generator", sequenceName = "LIKES_SEQ", allocationSize = 50)
     private Long likeId;
 
     @JoinColumn(name = "QUESTION_ID")
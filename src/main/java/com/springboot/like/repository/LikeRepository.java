@@ -4,6 +4,9 @@ import com.springboot.like.entity.Like;
 import com.springboot.question.entity.Question;
 import com.springboot.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,9 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     // Like는 user와 question이 매핑되기 때문에 메서드 추가
     Optional<Like> findByUserAndQuestion(User user, Question question);
     List<Like> findByQuestion(Question question);
+
+    // 엔티티 조회 없이 DELETE 한번으로 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.userId = :userId AND l.question.questionId = :questionId")
+    int deleteByUserIdAndQuestionId(@Param("userId") Long userId, @Param("questionId") Long questionId);
 }
@@ -0,0 +1,135 @@
+package com.springboot.like.service;
+
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.utils.PendingCounters;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+// 좋아요 수 변경분(+1/-1)을 Question별로 모아두었다가 한번에 DB에 반영하는 Class (write-behind)
+// 인기 질문에 좋아요가 몰려도 요청마다 같은 Question 행에 Lock을 잡지 않도록 하기 위함
+// like.write-behind.enabled=true 일 때만 사용
+public class LikeCountBuffer {
+    private final PendingCounters<Long> pendingDeltas = new PendingCounters<>();
+    private final AtomicLong pendingOperations = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final QuestionRepository questionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final boolean enabled;
+    private final long flushThreshold;
+
+    public LikeCountBuffer(QuestionRepository questionRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${like.write-behind.enabled:false}") boolean enabled,
+                           @Value("${like.write-behind.flush-threshold:1000}") long flushThreshold) {
+        this.questionRepository = questionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+    }
+
+    // 좋아요 수 변경분을 기록하는 메서드
+    // 트랜잭션 안에서 호출되면 커밋 後에 기록 (롤백 된 좋아요는 반영하지 않음)
+    public void add(Long questionId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(questionId, delta);
+                }
+            });
+        } else {
+            record(questionId, delta);
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 좋아요 수 변경분 (조회 時 DB 값에 더해서 보여줌)
+    public int getPendingDelta(Long questionId) {
+        return toInt(pendingDeltas.get(questionId));
+    }
+
+    // 주기적으로 모아둔 변경분을 Question별 UPDATE 한번씩으로 반영
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 애플리케이션 종료 時 남아있는 변경분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("# Failed to flush pending like counts", e);
+        }
+    }
+
+    private void record(Long questionId, int delta) {
+        pendingDeltas.add(questionId, delta);
+
+        // 쌓인 변경 요청이 기준치를 넘으면 주기를 기다리지 않고 반영 (이미 반영 중이면 건너뜀)
+        if (pendingOperations.incrementAndGet() >= flushThreshold && flushLock.tryLock()) {
+            try {
+                doFlush();
+            } catch (Exception e) {
+                log.error("# Failed to flush pending like counts", e);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void doFlush() {
+        pendingOperations.set(0);
+        // 변경분이 없던 질문은 메모리에서 제거됨
+        Map<Long, Long> deltas = pendingDeltas.drain();
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach(this::addLikeCount));
+        } catch (RuntimeException e) {
+            // DB 반영에 실패하면 다음 flush에서 다시 반영하도록 되돌려 놓음
+            deltas.forEach(pendingDeltas::add);
+            throw e;
+        }
+    }
+
+    // like_count는 int 컬럼이므로 int 범위를 넘는 변경분은 나누어 반영 (intValue()로 잘리지 않도록)
+    private void addLikeCount(Long questionId, long delta) {
+        while (delta != 0) {
+            int step = toInt(delta);
+            questionRepository.addLikeCount(questionId, step);
+            delta -= step;
+        }
+    }
+
+    private int toInt(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+}
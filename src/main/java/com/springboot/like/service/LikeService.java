@@ -2,61 +2,93 @@ package com.springboot.like.service;
 
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import com.springboot.helper.event.QuestionChangedEvent;
 import com.springboot.like.entity.Like;
 import com.springboot.like.repository.LikeRepository;
 import com.springboot.question.entity.Question;
 import com.springboot.question.repository.QuestionRepository;
 import com.springboot.user.entity.User;
 import com.springboot.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
-@Transactional
 @Service
 public class LikeService {
     private final LikeRepository likeRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public LikeService(LikeRepository likeRepository, QuestionRepository questionRepository, UserRepository userRepository) {
+    public LikeService(LikeRepository likeRepository, QuestionRepository questionRepository, UserRepository userRepository,
+                       LikeCountBuffer likeCountBuffer, ApplicationEventPublisher publisher,
+                       PlatformTransactionManager transactionManager) {
         this.likeRepository = likeRepository;
         this.questionRepository = questionRepository;
         this.userRepository = userRepository;
+        this.likeCountBuffer = likeCountBuffer;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    // INSERT 1번 + UPDATE 1번으로 좋아요 추가
+    // 중복 좋아요는 조회 後 저장(check-then-act)이 아니라 (USER_ID, QUESTION_ID) Unique 제약조건으로 검증
+    // 이 메서드는 트랜잭션 밖에서 실행됨 (TxConfig) : INSERT를 바로 flush하지 않고 커밋 時 전송하므로,
+    // 제약조건 위반은 커밋에서 발생 -> TransactionTemplate 밖에서 받아서 처리 (롤백 된 좋아요는 좋아요 수, 캐시에 반영되지 않음)
     public Like addLike(Long userId, Long questionId) {
-        User user = findVerifiedUser(userId);
-        Question question = findVerifiedQuestion(questionId);
-
-        verifyLikeNotExists(user, question);
-
-        Like like = new Like();
-
-        like.setUser(user);
-        like.setQuestion(question);
-
-        likeRepository.save(like);
-
-        question.addLikeCount();
-
-        questionRepository.save(question);
-
-        return like;
+        try {
+            return transactionTemplate.execute(status -> {
+                // 실제 조회 없이 ID만 가진 참조 객체 사용
+                User user = userRepository.getReferenceById(userId);
+                Question question = questionRepository.getReferenceById(questionId);
+
+                Like like = new Like();
+
+                like.setUser(user);
+                like.setQuestion(question);
+
+                likeRepository.save(like);
+
+                if (likeCountBuffer.isEnabled()) {
+                    likeCountBuffer.add(questionId, 1);
+                } else {
+                    questionRepository.increaseLikeCount(questionId);
+                }
+
+                // 좋아요 수가 바뀌었으므로 캐시 된 질문 응답, 목록을 비움
+                publisher.publishEvent(new QuestionChangedEvent(this, questionId));
+
+                return like;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException(isDuplicateLike(e)
+                    ? ExceptionCode.LIKE_ALREADY_EXISTS
+                    : ExceptionCode.QUESTION_NOT_FOUND);
+        }
     }
 
+    // DELETE 1번 + UPDATE 1번으로 좋아요 삭제
     public void removeLike(Long userId, Long questionId) {
-        User user = findVerifiedUser(userId);
-        Question question = findVerifiedQuestion(questionId);
+        int deleted = likeRepository.deleteByUserIdAndQuestionId(userId, questionId);
 
-        Like like = likeRepository.findByUserAndQuestion(user, question)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.LIKE_NOT_FOUND));
+        if (deleted == 0) {
+            throw new BusinessLogicException(ExceptionCode.LIKE_NOT_FOUND);
+        }
 
-        likeRepository.delete(like);
+        if (likeCountBuffer.isEnabled()) {
+            likeCountBuffer.add(questionId, -1);
+        } else {
+            questionRepository.decreaseLikeCount(questionId);
+        }
 
-        question.decreaseLikeCount();
-        questionRepository.save(question);
+        publisher.publishEvent(new QuestionChangedEvent(this, questionId));
     }
 
     // 해당 사용자가 존재하는지 확인하는 메서드
@@ -79,4 +111,17 @@ public class LikeService {
             throw new BusinessLogicException(ExceptionCode.LIKE_ALREADY_EXISTS);
         }
     }
+
+    // 중복 좋아요(Unique 제약조건 위반)인지, 존재하지 않는 질문/사용자(FK 위반)인지 구분하는 메서드
+    private boolean isDuplicateLike(DataIntegrityViolationException e) {
+        Throwable cause = e.getCause();
+
+        if (cause instanceof ConstraintViolationException) {
+            String constraintName = ((ConstraintViolationException) cause).getConstraintName();
+
+            return constraintName != null
+                    && constraintName.toUpperCase().contains(Like.USER_QUESTION_UNIQUE_CONSTRAINT);
+        }
+        return false;
+    }
 }
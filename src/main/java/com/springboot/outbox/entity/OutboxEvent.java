@@ -0,0 +1,82 @@
+package com.springboot.outbox.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor
+// 도메인 변경과 같은 트랜잭션에서 저장하는 Event (Transactional Outbox)
+// 트랜잭션이 커밋되어야 저장되므로 롤백된 변경의 Event는 전달되지 않고, 커밋된 변경의 Event는 누락되지 않음
+@Table(name = "OUTBOX_EVENT", indexes = {
+        // 전달 대기 중인 Event를 저장 순서대로 조회하는 인덱스
+        @Index(name = "IDX_OUTBOX_EVENT_STATUS_ID", columnList = "OUTBOX_STATUS, OUTBOX_EVENT_ID"),
+        // 가져간 Event를 claimToken으로 조회하는 인덱스
+        @Index(name = "IDX_OUTBOX_EVENT_CLAIM_TOKEN", columnList = "CLAIM_TOKEN")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "OUTBOX_EVENT_SEQ", allocationSize = 50)
+    @Column(name = "OUTBOX_EVENT_ID")
+    private Long outboxEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private EventType eventType;
+
+    // Event 대상의 ID (회원 가입은 userId)
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // Event별 추가 정보 (JSON)
+    @Column(length = 1000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "OUTBOX_STATUS", length = 20, nullable = false)
+    private OutboxStatus outboxStatus = OutboxStatus.PENDING;
+
+    // 전달에 실패한 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime dispatchedAt;
+
+    // 전달하기 위해 Event를 가져간 OutboxDispatcher의 claim 식별값 (여러 서버가 같은 Event를 동시에 전달하지 않도록 사용)
+    @Column(name = "CLAIM_TOKEN", length = 36)
+    private String claimToken;
+
+    // claim 만료 시각 (가져간 서버가 이 시각까지 전달 완료로 표시하지 못하면 다른 서버가 다시 가져감)
+    private LocalDateTime claimedUntil;
+
+    public OutboxEvent(EventType eventType, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+
+    // 전달 실패 기록 (최대 시도 횟수에 도달하면 더 이상 전달하지 않음)
+    public void recordFailure(int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.outboxStatus = OutboxStatus.FAILED;
+        }
+    }
+
+    public enum EventType {
+        USER_REGISTERED
+    }
+
+    public enum OutboxStatus {
+        PENDING,
+        DISPATCHED,
+        FAILED
+    }
+}
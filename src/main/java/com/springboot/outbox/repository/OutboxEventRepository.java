@@ -0,0 +1,54 @@
+package com.springboot.outbox.repository;
+
+import com.springboot.outbox.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // 전달 대기 중이고 다른 서버가 가져가지 않은(또는 claim이 만료된) Event의 ID를 저장 순서대로 조회
+    // ORDER BY에 인덱스 컬럼(OUTBOX_STATUS, OUTBOX_EVENT_ID)을 모두 적어야 H2가 정렬 없이 인덱스 순서로 batch만큼만 읽음
+    @Query("SELECT e.outboxEventId FROM OutboxEvent e " +
+            "WHERE e.outboxStatus = com.springboot.outbox.entity.OutboxEvent$OutboxStatus.PENDING " +
+            "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.outboxStatus, e.outboxEventId")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조회한 ID 범위의 Event 중 그 사이 다른 서버가 가져가지 않은 Event만 claimToken으로 가져감 (가져간 수 반환)
+    // 같은 행을 동시에 UPDATE하면 나중에 실행된 쪽은 먼저 커밋된 claim을 보고 조건에서 빠짐
+    // (ID 목록(IN) 대신 범위로 조건을 주어야 H2가 (OUTBOX_STATUS, OUTBOX_EVENT_ID) 인덱스의 범위만 읽음)
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = :claimToken, e.claimedUntil = :claimedUntil " +
+            "WHERE e.outboxStatus = com.springboot.outbox.entity.OutboxEvent$OutboxStatus.PENDING " +
+            "AND e.outboxEventId BETWEEN :firstId AND :lastId " +
+            "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(@Param("firstId") Long firstId, @Param("lastId") Long lastId, @Param("claimToken") String claimToken,
+              @Param("claimedUntil") LocalDateTime claimedUntil, @Param("now") LocalDateTime now);
+
+    // 가져간 Event를 저장 순서대로 조회
+    List<OutboxEvent> findByClaimTokenAndOutboxStatusOrderByOutboxEventIdAsc(String claimToken,
+                                                                            OutboxEvent.OutboxStatus outboxStatus);
+
+    // 전달하지 않은 Event의 claim을 풀어 바로 다시 가져갈 수 있게 함
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = NULL, e.claimedUntil = NULL " +
+            "WHERE e.claimToken = :claimToken " +
+            "AND e.outboxStatus = com.springboot.outbox.entity.OutboxEvent$OutboxStatus.PENDING")
+    int release(@Param("claimToken") String claimToken);
+
+    // 전달한 Event들을 UPDATE 한번으로 전달 완료 처리
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.outboxStatus = com.springboot.outbox.entity.OutboxEvent$OutboxStatus.DISPATCHED, " +
+            "e.dispatchedAt = :dispatchedAt WHERE e.outboxEventId IN :ids")
+    int markDispatched(@Param("ids") List<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    // 보관 기간이 지난 전달 완료 Event 삭제
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.outboxStatus = com.springboot.outbox.entity.OutboxEvent$OutboxStatus.DISPATCHED " +
+            "AND e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,153 @@
+package com.springboot.outbox.service;
+
+import com.springboot.outbox.entity.OutboxEvent;
+import com.springboot.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+// Outbox에 저장된 Event를 주기적으로 저장 순서대로 batchSize만큼 꺼내 OutboxSubscriber들에게 전달하는 Class
+// 요청 처리 중에는 Outbox에 INSERT만 하고, 메일 전송 등 부가 작업은 여기서 요청과 별도로 처리
+// - 여러 서버에서 실행되므로 Event를 claimToken, claimedUntil로 가져간(claim) 後 전달 (다른 서버는 가져간 Event를 건너뜀)
+// - Subscriber 전달 後 전달 완료로 표시하므로 적어도 한 번은 전달됨
+//   (at-least-once, 표시 전에 종료되면 claimTimeout이 지난 後 다른 서버가 다시 전달)
+// - 전달에 실패하면 그 Event에서 멈추고 가져간 나머지 Event는 claim을 풀어 다음 주기에 다시 전달
+//   (한 서버 안에서는 뒤의 Event가 먼저 전달되지 않지만, 서버 간에는 batch 단위로 순서가 바뀔 수 있음)
+// - maxAttempts번 실패한 Event는 FAILED로 표시하고 건너뜀
+// - claim 만료는 각 서버의 시각으로 판단하므로 서버 간 시각 차이가 claimTimeout보다 충분히 작아야 함
+public class OutboxDispatcher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Duration claimTimeout;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxSubscriber> subscribers,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retention-hours:24}") long retentionHours,
+                            @Value("${outbox.claim-timeout-ms:60000}") long claimTimeoutMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        // Event가 저장된 後 전달될 때까지 걸린 시간
+        this.lagTimer = Timer.builder("outbox.events.lag").register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofHours(retentionHours);
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+    }
+
+    // 대기 중인 Event가 batchSize보다 많으면 남은 Event가 없을 때까지 이어서 전달
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:500}")
+    public synchronized void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+    }
+
+    // 보관 기간이 지난 전달 완료 Event 삭제
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minus(retention)));
+
+        log.debug("# Deleted {} dispatched outbox events", deleted);
+    }
+
+    // 전달한 Event 수를 반환 (전달에 실패하면 -1)
+    private int dispatchBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> events = claim(claimToken);
+
+        List<Long> dispatchedIds = new ArrayList<>(events.size());
+
+        for (OutboxEvent event : events) {
+            try {
+                deliver(event);
+            } catch (RuntimeException e) {
+                log.warn("# Failed to dispatch outbox event {} ({})", event.getOutboxEventId(), event.getEventType(), e);
+                markDispatched(dispatchedIds);
+                recordFailure(event);
+                release(claimToken);
+                return -1;
+            }
+            dispatchedIds.add(event.getOutboxEventId());
+        }
+
+        markDispatched(dispatchedIds);
+
+        return events.size();
+    }
+
+    // 전달 대기 중인 Event를 batchSize만큼 가져감 (다른 서버와 동시에 실행되어도 같은 Event를 가져가지 않음)
+    private List<OutboxEvent> claim(String claimToken) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.findClaimableIds(now, PageRequest.of(0, batchSize));
+
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxEventRepository.claim(ids.get(0), ids.get(ids.size() - 1), claimToken, now.plus(claimTimeout), now);
+
+            return outboxEventRepository.findByClaimTokenAndOutboxStatusOrderByOutboxEventIdAsc(
+                    claimToken, OutboxEvent.OutboxStatus.PENDING);
+        });
+    }
+
+    private void release(String claimToken) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.release(claimToken));
+    }
+
+    private void deliver(OutboxEvent event) {
+        for (OutboxSubscriber subscriber : subscribers) {
+            if (subscriber.supports(event.getEventType())) {
+                subscriber.handle(event);
+            }
+        }
+
+        lagTimer.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        meterRegistry.counter("outbox.events.dispatched", "type", event.getEventType().name()).increment();
+    }
+
+    private void markDispatched(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markDispatched(ids, LocalDateTime.now()));
+        }
+    }
+
+    private void recordFailure(OutboxEvent event) {
+        meterRegistry.counter("outbox.events.failed", "type", event.getEventType().name()).increment();
+
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(event.getOutboxEventId())
+                        .ifPresent(outboxEvent -> outboxEvent.recordFailure(maxAttempts)));
+    }
+}
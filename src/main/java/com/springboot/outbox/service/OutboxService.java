@@ -0,0 +1,33 @@
+package com.springboot.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.outbox.entity.OutboxEvent;
+import com.springboot.outbox.repository.OutboxEventRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Service
+// 도메인 변경을 처리하는 Service의 트랜잭션 안에서 호출 (TxConfig의 REQUIRED로 같은 트랜잭션에 참여)
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void record(OutboxEvent.EventType eventType, Long aggregateId) {
+        outboxEventRepository.save(new OutboxEvent(eventType, aggregateId, null));
+    }
+
+    public void record(OutboxEvent.EventType eventType, Long aggregateId, Map<String, Object> payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(eventType, aggregateId, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event payload", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.springboot.outbox.service;
+
+import com.springboot.outbox.entity.OutboxEvent;
+
+// OutboxDispatcher가 Event를 전달하는 대상 (Bean으로 등록하면 자동으로 전달 받음)
+// 같은 Event가 두 번 이상 전달될 수 있으므로(at-least-once) 중복 처리해도 문제가 없어야 함
+public interface OutboxSubscriber {
+    boolean supports(OutboxEvent.EventType eventType);
+
+    // 예외를 던지면 전달 실패로 보고 다음 주기에 다시 전달
+    void handle(OutboxEvent event);
+}
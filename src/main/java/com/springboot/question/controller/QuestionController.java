@@ -5,8 +5,11 @@ import com.springboot.answer.dto.AnswerPostDto;
 import com.springboot.answer.dto.AnswerResponseDto;
 import com.springboot.answer.entity.Answer;
 import com.springboot.answer.mapper.AnswerMapper;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.answer.service.AnswerService;
 import com.springboot.auth.utils.CustomUserDetails;
+import com.springboot.dto.CursorResponseDto;
 import com.springboot.dto.MultiResponseDto;
 import com.springboot.dto.SingleResponseDto;
 import com.springboot.exception.BusinessLogicException;
@@ -16,7 +19,12 @@ import com.springboot.question.dto.QuestionPostDto;
 import com.springboot.question.dto.QuestionResponseDto;
 import com.springboot.question.entity.Question;
 import com.springboot.question.mapper.QuestionMapper;
+import com.springboot.question.repository.QuestionFeedCursor;
+import com.springboot.question.repository.QuestionFeedSort;
+import com.springboot.question.service.QuestionPageCache;
+import com.springboot.question.service.QuestionResponseCache;
 import com.springboot.question.service.QuestionService;
+import com.springboot.question.service.QuestionViewCounter;
 import com.springboot.user.entity.User;
 import com.springboot.user.service.UserService;
 import com.springboot.utils.CheckUserRoles;
@@ -43,22 +51,39 @@ import java.util.Map;
 @RequestMapping("/v1/questions")
 @Validated
 public class QuestionController {
+    private static final int MAX_FEED_SIZE = 100;
+
     private final QuestionService questionService;
     private final UserService userService;
     private final QuestionMapper questionMapper;
     private final CheckUserRoles checkUserRoles;
     private final AnswerService answerService;
     private final AnswerMapper answerMapper;
+    private final QuestionResponseCache questionResponseCache;
+    private final QuestionViewCounter questionViewCounter;
+    private final QuestionPageCache questionPageCache;
+    // 목록 캐시(Redis)의 JSON을 다시 읽을 때 사용할 응답 타입
+    private final JavaType feedResponseType;
+    private final JavaType pageResponseType;
 
     public QuestionController(QuestionService questionService, QuestionMapper questionMapper,
                               UserService userService, CheckUserRoles checkUserRoles,
-                              AnswerService answerService, AnswerMapper answerMapper) {
+                              AnswerService answerService, AnswerMapper answerMapper,
+                              QuestionResponseCache questionResponseCache, QuestionViewCounter questionViewCounter,
+                              QuestionPageCache questionPageCache, ObjectMapper objectMapper) {
         this.questionService = questionService;
         this.questionMapper = questionMapper;
         this.userService = userService;
         this.checkUserRoles = checkUserRoles;
         this.answerService = answerService;
         this.answerMapper = answerMapper;
+        this.questionResponseCache = questionResponseCache;
+        this.questionViewCounter = questionViewCounter;
+        this.questionPageCache = questionPageCache;
+        this.feedResponseType = objectMapper.getTypeFactory()
+                .constructParametricType(CursorResponseDto.class, QuestionResponseDto.class);
+        this.pageResponseType = objectMapper.getTypeFactory()
+                .constructParametricType(MultiResponseDto.class, QuestionResponseDto.class);
     }
 
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
@@ -119,6 +144,16 @@ public class QuestionController {
     public ResponseEntity getQuestion(@PathVariable("question-id") Long questionId,
                                       @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
+        // 캐시 된 공개 질문은 DB 조회, JSON 변환 없이 바로 반환 (조회수는 따로 집계)
+        byte[] cachedResponse = questionResponseCache.get(questionId);
+        if (cachedResponse != null) {
+            questionViewCounter.increment(questionId);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cachedResponse);
+        }
+
+        // 조회 전에 버전을 받아두어야 조회 도중 질문이 바뀌었을 때 이전 응답이 캐시에서 사용되지 않음
+        long cacheVersion = questionResponseCache.currentVersion(questionId);
+
         Question question = questionService.findQuestion(questionId, customUserDetails.getUserId());
 
         String questionContext = question.getQuestionVisibility() == Question.QuestionVisibility.QUESTION_SECRET
@@ -135,39 +170,90 @@ public class QuestionController {
         questionResponseDto = questionResponseDto.toBuilder()
                 .title(title)
                 .questionContext(questionContext)
+                .likeCount(questionService.getCurrentLikeCount(question))
                 .build();
 
-        return new ResponseEntity<>(new SingleResponseDto<>(questionResponseDto), HttpStatus.OK);
+        SingleResponseDto<QuestionResponseDto> response = new SingleResponseDto<>(questionResponseDto);
+
+        // 비밀글은 작성자, 관리자만 볼 수 있으므로 캐시하지 않음
+        if (question.getQuestionVisibility() == Question.QuestionVisibility.QUESTION_PUBLIC) {
+            byte[] body = questionResponseCache.put(questionId, cacheVersion, response);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    // 정렬 컬럼 값 + questionId 기준의 cursor(keyset) 페이지네이션
+    // 좋아요 수, 조회수 정렬은 페이지를 넘기는 사이에 값이 바뀐 질문이 cursor 앞뒤로 옮겨갈 수 있음
+    // (이미 받은 범위로 옮겨가면 누락, 아직 받지 않은 범위로 옮겨가면 중복) -> 클라이언트는 questionId로 중복을 걸러야 함
+    // 값이 바뀌지 않는 작성일 정렬(latest, oldest)은 누락, 중복 없음
     @GetMapping("/list")
-    public ResponseEntity<List<Question>> getQuestions(@RequestParam("sortBy") String sortBy) {
-        List<Question> questions = questionService.getQuestionSorted(sortBy);
-        return ResponseEntity.ok(questions);
+    public ResponseEntity<CursorResponseDto<QuestionResponseDto>> getQuestions(
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Positive @RequestParam(value = "size", defaultValue = "20") int size) {
+        QuestionFeedSort sort = QuestionFeedSort.of(sortBy);
+        // 한 번에 조회할 수 있는 개수 제한
+        int pageSize = Math.min(size, MAX_FEED_SIZE);
+
+        QuestionFeedCursor feedCursor = QuestionFeedCursor.decode(cursor, sort);
+
+        // 정렬 기준, cursor 위치(정렬 컬럼 값 + questionId), 크기별로 응답을 캐시 (Local -> Redis -> DB)
+        String pageKey = "feed:" + sort + ":" + (feedCursor != null ? feedCursor.cacheKey(sort) : "") + ":" + pageSize;
+        CursorResponseDto<QuestionResponseDto> response =
+                questionPageCache.get(pageKey, feedResponseType, () -> createFeedResponse(sort, feedCursor, pageSize));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    private CursorResponseDto<QuestionResponseDto> createFeedResponse(QuestionFeedSort sort, QuestionFeedCursor cursor,
+                                                                      int pageSize) {
+        List<Question> questions = questionService.findQuestionFeed(sort, cursor, pageSize);
+
+        // size + 1개가 조회되었으면 다음 페이지가 있음
+        boolean hasNext = questions.size() > pageSize;
+        if (hasNext) {
+            questions = questions.subList(0, pageSize);
+        }
+        String nextCursor = hasNext
+                ? QuestionFeedCursor.of(sort, questions.get(questions.size() - 1)).encode()
+                : null;
+
+        List<QuestionResponseDto> list = new ArrayList<>();
+        for (Question question : questions) {
+            list.add(questionMapper.questionToQuestionResponseDto(question).toBuilder()
+                    .likeCount(questionService.getCurrentLikeCount(question))
+                    .build());
+        }
+
+        return new CursorResponseDto<>(list, nextCursor);
     }
 
     @GetMapping
-    public ResponseEntity getQuestions(@Positive @RequestParam int page,
-                                       @Positive @RequestParam int size) {
-        Page<Question> pageQuestions = questionService.findQuestions(page, size);
-        List<Question> questions = pageQuestions.getContent();
-
-        List<QuestionResponseDto> list = questionMapper.questionsToQuestionResponses(questions);
-
-        for (int i = 0; i < list.size(); i++) {
-            QuestionResponseDto questionResponseDto = list.get(i);
-            if (questions.get(i).getQuestionVisibility() == Question.QuestionVisibility.QUESTION_SECRET) {
-                questionResponseDto = questionResponseDto.toBuilder()
-                        .title("SECRET")
-                        .questionContext("비공개글입니다.")
-                        .build();
-                list.set(i, questionResponseDto);  // 변경된 dto 다시 리스트에 반영
-            }
+    public ResponseEntity<MultiResponseDto<QuestionResponseDto>> getQuestions(
+            @Positive @RequestParam int page,
+            @Positive @RequestParam int size) {
+        // 페이지, 크기별로 응답을 캐시 (Local -> Redis -> DB)
+        MultiResponseDto<QuestionResponseDto> response =
+                questionPageCache.get("page:" + page + ":" + size, pageResponseType, () -> createPageResponse(page, size));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    private MultiResponseDto<QuestionResponseDto> createPageResponse(int page, int size) {
+        // 비밀글은 조회 時 이미 가려진 상태로 DTO가 만들어짐
+        Page<QuestionResponseDto> pageQuestions = questionService.findQuestions(page, size);
+
+        List<QuestionResponseDto> list = new ArrayList<>();
+        for (QuestionResponseDto questionResponseDto : pageQuestions.getContent()) {
+            list.add(questionResponseDto.toBuilder()
+                    .likeCount(questionService.getCurrentLikeCount(
+                            questionResponseDto.getQuestionId(), questionResponseDto.getLikeCount()))
+                    .build());
         }
 
-        return new ResponseEntity<>(
-                new MultiResponseDto<>(list, pageQuestions), HttpStatus.OK
-        );
+        return new MultiResponseDto<>(list, pageQuestions);
     }
 
     @DeleteMapping("/{question-id}")
@@ -12,6 +12,8 @@ import java.util.List;
 
 @Getter
 @AllArgsConstructor
+// Redis 캐시 값 역직렬화에 사용
+@NoArgsConstructor
 @Builder(toBuilder = true)
 public class QuestionResponseDto {
     private Long questionId;
@@ -25,4 +27,21 @@ public class QuestionResponseDto {
     // 답변 목록 추가
     private AnswerResponseDto answer;
     private List<LikeResponseDto> likes;
+
+    // 목록 조회 JPQL에서 엔티티를 거치지 않고 바로 생성하기 위한 생성자 (답변이 없으면 answerId = null)
+    public QuestionResponseDto(Long questionId, String title, String questionContext,
+                               int viewCount, int likeCount,
+                               Question.QuestionStatus questionStatus,
+                               Question.QuestionVisibility questionVisibility,
+                               String userName, Long answerId, String answerContext) {
+        this.questionId = questionId;
+        this.title = title;
+        this.questionContext = questionContext;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.questionStatus = questionStatus;
+        this.questionVisibility = questionVisibility;
+        this.userName = userName;
+        this.answer = answerId != null ? new AnswerResponseDto(answerId, answerContext) : null;
+    }
 }
@@ -19,10 +19,31 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+// 2차 캐시는 사용하지 않음 : 조회수, 좋아요 수를 JPQL 일괄 UPDATE로 반영할 때마다 Hibernate가 Question region 전체를 비우므로
+// 캐시가 거의 항상 비어 있음 (공개 질문 응답은 QuestionResponseCache, 목록은 QuestionPageCache에서 캐시)
+// 목록 조회(상태별 count, questionId 내림차순 페이지), 정렬 기준별 cursor 조회에 사용하는 인덱스
+// H2는 인덱스를 거꾸로 읽지 못하므로 내림차순 정렬(목록, latest, likesDesc, viewsDesc)용 DESC 인덱스를 따로 둠
+@Table(indexes = {
+        @Index(name = "IDX_QUESTION_STATUS_ID", columnList = "questionStatus, questionId"),
+        @Index(name = "IDX_QUESTION_ID_DESC", columnList = "questionId DESC"),
+        @Index(name = "IDX_QUESTION_CREATED_AT_ID", columnList = "createdAt, questionId"),
+        @Index(name = "IDX_QUESTION_CREATED_AT_ID_DESC", columnList = "createdAt DESC, questionId DESC"),
+        @Index(name = "IDX_QUESTION_LIKE_COUNT_ID", columnList = "likeCount, questionId"),
+        @Index(name = "IDX_QUESTION_LIKE_COUNT_ID_DESC", columnList = "likeCount DESC, questionId DESC"),
+        @Index(name = "IDX_QUESTION_VIEW_COUNT_ID", columnList = "viewCount, questionId"),
+        @Index(name = "IDX_QUESTION_VIEW_COUNT_ID_DESC", columnList = "viewCount DESC, questionId DESC")
+})
 public class Question extends BaseEntity {
+    // 목록에서 비밀글 대신 보여줄 제목, 내용
+    public static final String SECRET_TITLE = "SECRET";
+    public static final String SECRET_CONTEXT = "비공개글입니다.";
+    // JPQL에서 비밀글을 비교할 때 사용하는 enum 값
+    public static final String SECRET_VISIBILITY = "com.springboot.question.entity.Question$QuestionVisibility.QUESTION_SECRET";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // SEQUENCE는 INSERT 전에 ID를 알 수 있어서 INSERT를 JDBC batch로 묶을 수 있음 (allocationSize만큼 미리 받아와 사용)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq_generator")
+    @SequenceGenerator(name = "question_seq_generator", sequenceName = "QUESTION_SEQ", allocationSize = 50)
     private Long questionId;
 
     @Column(nullable = false)
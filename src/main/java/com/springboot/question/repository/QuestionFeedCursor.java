@@ -0,0 +1,58 @@
+package com.springboot.question.repository;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.question.entity.Question;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 질문 목록의 다음 페이지 위치 (마지막으로 받은 질문의 정렬 컬럼 값 + questionId)
+// 클라이언트에는 내용을 알 수 없는(opaque) Base64 문자열로 전달한다
+@Getter
+public class QuestionFeedCursor {
+    private static final String DELIMITER = "|";
+
+    private final String sortValue;
+    private final Long questionId;
+
+    private QuestionFeedCursor(String sortValue, Long questionId) {
+        this.sortValue = sortValue;
+        this.questionId = questionId;
+    }
+
+    public static QuestionFeedCursor of(QuestionFeedSort sort, Question question) {
+        return new QuestionFeedCursor(sort.sortValueOf(question), question.getQuestionId());
+    }
+
+    // 캐시 Key로 사용할 값 (정렬 컬럼 값을 타입으로 변환 後 다시 문자열로 만들어, 같은 위치는 항상 같은 Key가 됨)
+    // 클라이언트가 보낸 cursor 문자열을 그대로 Key로 쓰지 않으므로 Key 길이가 제한됨
+    public String cacheKey(QuestionFeedSort sort) {
+        return sort.parseSortValue(sortValue) + DELIMITER + questionId;
+    }
+
+    public String encode() {
+        String raw = sortValue + DELIMITER + questionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // cursor 문자열을 해석하는 메서드 (첫 페이지 요청이면 null 반환)
+    public static QuestionFeedCursor decode(String cursor, QuestionFeedSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            String sortValue = raw.substring(0, index);
+            // 정렬 기준에 맞는 값인지 확인
+            sort.parseSortValue(sortValue);
+
+            return new QuestionFeedCursor(sortValue, Long.valueOf(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.springboot.question.repository;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.question.entity.Question;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+// 질문 목록(feed)의 정렬 기준
+// 정렬 컬럼(sortKey) + questionId 로 cursor(keyset) 페이지네이션을 한다
+// likeCount, viewCount는 계속 바뀌는 값이라 페이지 사이에 값이 바뀐 질문은 누락되거나 중복될 수 있음 (createdAt 정렬은 안정적)
+public enum QuestionFeedSort {
+    LATEST("latest", "createdAt", true),
+    OLDEST("oldest", "createdAt", false),
+    LIKES_DESC("likesDesc", "likeCount", true),
+    LIKES_ASC("likesAsc", "likeCount", false),
+    VIEWS_DESC("viewsDesc", "viewCount", true),
+    VIEWS_ASC("viewsAsc", "viewCount", false);
+
+    private final String sortBy;
+    private final String attribute;
+    private final boolean descending;
+
+    QuestionFeedSort(String sortBy, String attribute, boolean descending) {
+        this.sortBy = sortBy;
+        this.attribute = attribute;
+        this.descending = descending;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    // 요청 파라미터(sortBy)로 정렬 기준을 찾는 메서드
+    public static QuestionFeedSort of(String sortBy) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.sortBy.equals(sortBy))
+                .findFirst()
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.INVALID_SORT_CRITERIA));
+    }
+
+    // Question의 정렬 컬럼 값을 cursor에 담을 문자열로 변환
+    public String sortValueOf(Question question) {
+        return sortKeyExtractor().apply(question).toString();
+    }
+
+    // cursor에 담긴 문자열을 정렬 컬럼 타입으로 변환
+    @SuppressWarnings("rawtypes")
+    public Comparable parseSortValue(String value) {
+        if (attribute.equals("createdAt")) {
+            return LocalDateTime.parse(value);
+        }
+        return Integer.valueOf(value);
+    }
+
+    private Function<Question, Object> sortKeyExtractor() {
+        switch (attribute) {
+            case "createdAt":
+                return Question::getCreatedAt;
+            case "likeCount":
+                return Question::getLikeCount;
+            default:
+                return Question::getViewCount;
+        }
+    }
+}
@@ -1,33 +1,71 @@
 package com.springboot.question.repository;
 
+import com.springboot.bulkexport.dto.QuestionExportDto;
+import com.springboot.question.dto.QuestionResponseDto;
 import com.springboot.question.entity.Question;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface QuestionRepository extends JpaRepository<Question, Long> {
-
+public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
     @EntityGraph(attributePaths = {"user"})
     Optional<Question> findWithUserByQuestionId(Long questionId);
 
     Page<Question> findByQuestionStatusNotIn(List<Question.QuestionStatus> statuses,
                                            Pageable pageable);
 
-    List<Question> findAllByOrderByCreatedAtDesc();
+    // 목록 조회용 DTO를 SQL 한번(+ count 한번)으로 바로 조회 (작성자, 답변은 join)
+    // 비밀글의 제목, 내용은 조회 時 바로 가려서 가져옴 (엔티티를 수정하지 않음)
+    @Query(value = "SELECT new com.springboot.question.dto.QuestionResponseDto(" +
+            "q.questionId, " +
+            "CASE WHEN q.questionVisibility = " + Question.SECRET_VISIBILITY + " THEN '" + Question.SECRET_TITLE + "' ELSE q.title END, " +
+            "CASE WHEN q.questionVisibility = " + Question.SECRET_VISIBILITY + " THEN '" + Question.SECRET_CONTEXT + "' ELSE q.questionContext END, " +
+            "q.viewCount, q.likeCount, q.questionStatus, q.questionVisibility, u.name, a.answerId, a.answerContext) " +
+            "FROM Question q JOIN q.user u LEFT JOIN q.answer a " +
+            "WHERE q.questionStatus NOT IN :statuses",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.questionStatus NOT IN :statuses")
+    Page<QuestionResponseDto> findResponsesByQuestionStatusNotIn(@Param("statuses") List<Question.QuestionStatus> statuses,
+                                                                 Pageable pageable);
 
-    List<Question> findAllByOrderByCreatedAtAsc();
+    // 전체 질문을 한 번의 쿼리로 앞에서부터 읽어가는 Stream (내보내기용, 트랜잭션 안에서 사용 後 close 해야 함)
+    // 엔티티가 아닌 DTO로 조회하므로 영속성 컨텍스트에 쌓이지 않고, fetch size만큼씩 DB에서 가져옴
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.springboot.bulkexport.dto.QuestionExportDto(" +
+            "q.questionId, u.userId, q.title, q.questionContext, q.questionStatus, q.questionVisibility, " +
+            "q.viewCount, q.likeCount, q.createdAt) " +
+            "FROM Question q JOIN q.user u ORDER BY q.questionId")
+    Stream<QuestionExportDto> streamAllForExport();
 
-    List<Question> findAllByOrderByLikeCountDesc();
+    // 조회수를 엔티티 로딩 없이 DB에서 원자적으로 증가시킴
+    @Modifying
+    @Query("UPDATE Question q SET q.viewCount = q.viewCount + :delta WHERE q.questionId = :questionId")
+    int increaseViewCount(@Param("questionId") Long questionId, @Param("delta") int delta);
 
-    List<Question> findAllByOrderByLikeCountAsc();
+    // 좋아요 수를 엔티티 로딩 없이 DB에서 원자적으로 증가시킴
+    @Modifying
+    @Query("UPDATE Question q SET q.likeCount = q.likeCount + 1 WHERE q.questionId = :questionId")
+    int increaseLikeCount(@Param("questionId") Long questionId);
 
-    List<Question> findAllByOrderByViewCountDesc();
+    // 좋아요 수를 엔티티 로딩 없이 DB에서 원자적으로 감소시킴 (최소값 = 0)
+    @Modifying
+    @Query("UPDATE Question q SET q.likeCount = q.likeCount - 1 WHERE q.questionId = :questionId AND q.likeCount > 0")
+    int decreaseLikeCount(@Param("questionId") Long questionId);
 
-    List<Question> findAllByOrderByViewCountAsc();
+    // 모아둔 좋아요 수 변경분을 한번에 반영 (최소값 = 0)
+    @Modifying
+    @Query("UPDATE Question q SET q.likeCount = " +
+            "CASE WHEN (q.likeCount + :delta) < 0 THEN 0 ELSE (q.likeCount + :delta) END " +
+            "WHERE q.questionId = :questionId")
+    int addLikeCount(@Param("questionId") Long questionId, @Param("delta") int delta);
 
 }
@@ -0,0 +1,10 @@
+package com.springboot.question.repository;
+
+import com.springboot.question.entity.Question;
+
+import java.util.List;
+
+public interface QuestionRepositoryCustom {
+    // cursor 다음 위치부터 limit 개의 공개 질문을 정렬 기준에 맞게 조회 (cursor가 null이면 첫 페이지)
+    List<Question> findFeed(QuestionFeedSort sort, QuestionFeedCursor cursor, int limit);
+}
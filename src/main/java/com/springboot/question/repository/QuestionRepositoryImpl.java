@@ -0,0 +1,71 @@
+package com.springboot.question.repository;
+
+import com.springboot.question.entity.Question;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Fetch;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Question> findFeed(QuestionFeedSort sort, QuestionFeedCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Question> query = cb.createQuery(Question.class);
+        Root<Question> question = query.from(Question.class);
+
+        // 응답에 필요한 작성자, 답변(+답변 작성자)을 한번에 가져옴 (N+1 방지)
+        question.fetch("user", JoinType.INNER);
+        Fetch<Object, Object> answer = question.fetch("answer", JoinType.LEFT);
+        answer.fetch("user", JoinType.LEFT);
+
+        Path<Comparable> sortKey = question.get(sort.getAttribute());
+        Path<Long> questionId = question.get("questionId");
+
+        // 삭제, 비활성화, 비밀글은 SQL에서 제외
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.not(question.get("questionStatus").in(
+                Question.QuestionStatus.QUESTION_DELETED,
+                Question.QuestionStatus.QUESTION_DEACTIVED)));
+        predicates.add(cb.equal(question.get("questionVisibility"), Question.QuestionVisibility.QUESTION_PUBLIC));
+
+        // (sortKey, questionId)가 cursor보다 뒤에 있는 행만 조회 (OFFSET 없이 인덱스로 바로 이동)
+        // OR 조건만으로는 인덱스 범위를 정할 수 없어서, 같은 뜻의 sortKey 범위 조건(<=, >=)을 함께 걸어 cursor 위치부터 인덱스를 읽게 함
+        if (cursor != null) {
+            Comparable sortValue = sort.parseSortValue(cursor.getSortValue());
+
+            if (sort.isDescending()) {
+                predicates.add(cb.lessThanOrEqualTo(sortKey, sortValue));
+                predicates.add(cb.or(
+                        cb.lessThan(sortKey, sortValue),
+                        cb.and(cb.equal(sortKey, sortValue), cb.lessThan(questionId, cursor.getQuestionId()))));
+            } else {
+                predicates.add(cb.greaterThanOrEqualTo(sortKey, sortValue));
+                predicates.add(cb.or(
+                        cb.greaterThan(sortKey, sortValue),
+                        cb.and(cb.equal(sortKey, sortValue), cb.greaterThan(questionId, cursor.getQuestionId()))));
+            }
+        }
+
+        query.select(question)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(sort.isDescending()
+                        ? List.of(cb.desc(sortKey), cb.desc(questionId))
+                        : List.of(cb.asc(sortKey), cb.asc(questionId)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -2,48 +2,68 @@ package com.springboot.question.service;
 
 import com.springboot.exception.StorageException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PostConstruct;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 
 @Slf4j
 @Service
 public class FileSystemStorageService implements StorageService {
-    private final Path rootLocation = Paths.get("C:\\output");;
-    @Override
-    public void store(MultipartFile file) {
-        Path directory = Paths.get("C:\\output");
+    private final Path rootLocation;
+
+    public FileSystemStorageService(@Value("${storage.file-system.root}") String rootLocation) {
+        this.rootLocation = Paths.get(rootLocation).toAbsolutePath().normalize();
+    }
+
+    // 저장 디렉토리는 시작 時 한 번만 생성
+    @PostConstruct
+    public void init() {
         try {
-            if (!Files.exists(directory)) {
-                Files.createDirectories(directory);
-            }
+            Files.createDirectories(rootLocation);
         } catch (IOException e) {
             throw new StorageException("Failed to create directory.", e);
         }
+    }
+
+    @Override
+    public void store(MultipartFile file, String filename) {
         try {
             if (file.isEmpty()) {
                 throw new StorageException("Failed to store empty file.");
             }
             Path destinationFile = this.rootLocation.resolve(
-                    Paths.get(file.getOriginalFilename())).normalize().toAbsolutePath();
-            if (!destinationFile.getParent().equals(this.rootLocation.toAbsolutePath())) {
+                    Paths.get(filename)).normalize().toAbsolutePath();
+            if (!destinationFile.getParent().equals(this.rootLocation)) {
                 // This is a security check
                 throw new StorageException(
                         "Cannot store file outside current directory.");
             }
-            try (InputStream inputStream = file.getInputStream()) {
-                log.info("# question image!");
-                Files.copy(inputStream, destinationFile, StandardCopyOption.REPLACE_EXISTING);
-            }
+            log.info("# question image!");
+            // 파일 전체를 메모리에 올리지 않고, 요청 임시 파일을 그대로 옮기거나(같은 디스크) 버퍼 단위로 복사
+            file.transferTo(destinationFile.toFile());
         }
         catch (IOException e) {
             throw new StorageException("Failed to store file.", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void delete(String filename) {
+        Path file = this.rootLocation.resolve(Paths.get(filename)).normalize().toAbsolutePath();
+        if (!file.getParent().equals(this.rootLocation)) {
+            throw new StorageException("Cannot delete file outside current directory.");
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new StorageException("Failed to delete file.", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.springboot.question.service;
+
+import com.springboot.exception.StorageException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+// 질문 이미지를 제한된 크기의 Thread Pool에서 동시에 업로드하는 Class
+// DB 트랜잭션 밖에서 호출해서 업로드하는 동안 DB Connection을 점유하지 않도록 함
+// 파일은 원래 이름이 아닌 새로 만든 이름(UUID)으로 저장하므로, 이름이 같은 파일끼리 덮어쓰거나 보상 처리로 다른 질문의 이미지를 지우지 않음
+// 하나라도 실패하거나 시간 안에 끝나지 않으면 나머지 업로드를 취소하고, 올라간 파일은 삭제(보상 처리) 後 StorageException을 던짐
+public class QuestionImageUploader {
+    private static final String IMAGE_URL_PREFIX = "http://bucket-test-imges.s3.amazonaws.com/";
+    private static final Pattern EXTENSION = Pattern.compile("[A-Za-z0-9]{1,10}");
+
+    private final StorageService storageService;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+
+    public QuestionImageUploader(StorageService storageService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${question.image-upload.pool-size:8}") int poolSize,
+                                 @Value("${question.image-upload.queue-capacity:100}") int queueCapacity,
+                                 @Value("${question.image-upload.timeout-ms:60000}") long timeoutMillis) {
+        this.storageService = storageService;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("question-image-upload-");
+        this.executor.initialize();
+    }
+
+    // 비어있지 않은 파일을 동시에 업로드하고, 파일 순서대로 이미지 URL을 반환
+    public List<String> upload(List<MultipartFile> files) {
+        List<MultipartFile> images = new ArrayList<>();
+        if (files != null) {
+            files.stream().filter(file -> !file.isEmpty()).forEach(images::add);
+        }
+
+        List<String> filenames = new ArrayList<>(images.size());
+        List<Future<?>> uploads = new ArrayList<>(images.size());
+        // 실패 後 true : 아직 시작하지 않은 업로드는 건너뛰고, 취소 전에 끝난 업로드는 스스로 삭제
+        AtomicBoolean aborted = new AtomicBoolean();
+
+        try {
+            for (MultipartFile image : images) {
+                String filename = newFilename(image);
+                filenames.add(filename);
+                uploads.add(executor.submit(() -> store(image, filename, aborted)));
+            }
+        } catch (TaskRejectedException e) {
+            // Pool과 대기열이 모두 차면 요청을 거절
+            abort(aborted, uploads, filenames);
+            throw new StorageException("Too many concurrent image uploads.", e);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (Future<?> upload : uploads) {
+                upload.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException e) {
+            abort(aborted, uploads, filenames);
+            throw new StorageException("Failed to upload question images.", e.getCause());
+        } catch (TimeoutException e) {
+            abort(aborted, uploads, filenames);
+            throw new StorageException("Timed out uploading question images.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(aborted, uploads, filenames);
+            throw new StorageException("Interrupted while uploading question images.", e);
+        }
+
+        List<String> imageUrls = new ArrayList<>(filenames.size());
+        filenames.forEach(filename -> imageUrls.add(IMAGE_URL_PREFIX + filename));
+
+        return imageUrls;
+    }
+
+    // 질문 저장에 실패한 경우 업로드 한 이미지 삭제
+    public void delete(List<String> imageUrls) {
+        imageUrls.forEach(imageUrl -> deleteQuietly(imageUrl.substring(IMAGE_URL_PREFIX.length())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 파일 1개 업로드 (성공/실패별 소요 시간 기록)
+    private void store(MultipartFile image, String filename, AtomicBoolean aborted) {
+        if (aborted.get()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            storageService.store(image, filename);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("question.image.upload")
+                    .description("Time taken to upload one question image")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+
+        // 취소 되었지만 업로드가 끝까지 진행된 경우 (저장소 SDK가 interrupt를 무시하는 경우 등)
+        if (aborted.get()) {
+            deleteQuietly(filename);
+        }
+    }
+
+    // 남은 업로드를 취소(interrupt)하고 이미 올라간 파일 삭제
+    // 지금 진행 중인 업로드는 끝난 뒤 store()에서 스스로 삭제
+    private void abort(AtomicBoolean aborted, List<Future<?>> uploads, List<String> filenames) {
+        aborted.set(true);
+        uploads.forEach(upload -> upload.cancel(true));
+        filenames.forEach(this::deleteQuietly);
+    }
+
+    // 원래 파일 이름은 사용하지 않고 확장자만 유지
+    private String newFilename(MultipartFile image) {
+        String extension = StringUtils.getFilenameExtension(image.getOriginalFilename());
+        String filename = UUID.randomUUID().toString();
+
+        return extension != null && EXTENSION.matcher(extension).matches()
+                ? filename + "." + extension.toLowerCase()
+                : filename;
+    }
+
+    private void deleteQuietly(String filename) {
+        try {
+            storageService.delete(filename);
+        } catch (RuntimeException e) {
+            log.error("# Failed to delete uploaded question image: {}", filename, e);
+        }
+    }
+}
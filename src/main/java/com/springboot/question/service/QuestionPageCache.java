@@ -0,0 +1,325 @@
+package com.springboot.question.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.helper.event.QuestionChangedEvent;
+import com.springboot.redis.RedisBatchOperations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+// 질문 목록 응답을 서버 Local 캐시(응답 DTO) -> Redis 캐시(JSON) 순서로 찾는 2단계 캐시
+// 질문이 등록/수정/삭제되거나 좋아요 수가 바뀌면 Redis의 세대(generation) 값을 올리고 pub/sub으로 다른 서버의 Local 캐시도 비운다
+// 캐시가 비었을 때는 Redis Lock을 잡은 서버 한 곳만 DB에서 다시 만들고, 나머지는 직전 세대의 응답을 주거나 잠시 기다린다
+// Redis에 연결할 수 없거나 Redis의 값을 읽을 수 없으면 Redis 캐시 없이 DB에서 바로 조회
+public class QuestionPageCache implements MessageListener {
+    private static final String KEY_PREFIX = "question-page:";
+    private static final String GENERATION_KEY = KEY_PREFIX + "generation";
+    private static final String STALE_KEY_PREFIX = KEY_PREFIX + "stale:";
+    private static final String LOCK_KEY_PREFIX = KEY_PREFIX + "lock:";
+    private static final String CHANNEL = "question-page-invalidation";
+    private static final long LOCK_POLL_INTERVAL_MS = 50;
+    // pub/sub 메시지는 RedisTemplate의 값 Serializer와 상관없이 세대 값 문자열 그대로 주고받음
+    private static final RedisSerializer<String> MESSAGE_SERIALIZER = RedisSerializer.string();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisBatchOperations redisBatchOperations;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Object> localPages;
+    private final Duration sharedTtl;
+    private final Duration staleTtl;
+    private final Duration lockTtl;
+    private final long lockWaitMillis;
+
+    // 현재 세대 (세대가 바뀌면 이전 세대의 캐시 Key는 더 이상 사용하지 않음)
+    private volatile long generation;
+    private volatile boolean subscribed;
+
+    public QuestionPageCache(RedisTemplate<String, Object> redisTemplate,
+                             RedisBatchOperations redisBatchOperations,
+                             RedisMessageListenerContainer listenerContainer,
+                             ObjectMapper objectMapper,
+                             @Value("${question.page-cache.local-ttl-ms:5000}") long localTtlMillis,
+                             @Value("${question.page-cache.local-max-size:1000}") long localMaxSize,
+                             @Value("${question.page-cache.shared-ttl-ms:60000}") long sharedTtlMillis,
+                             @Value("${question.page-cache.stale-ttl-ms:600000}") long staleTtlMillis,
+                             @Value("${question.page-cache.lock-ttl-ms:5000}") long lockTtlMillis,
+                             @Value("${question.page-cache.lock-wait-ms:1000}") long lockWaitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.redisBatchOperations = redisBatchOperations;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.localPages = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(localMaxSize)
+                .build();
+        this.sharedTtl = Duration.ofMillis(sharedTtlMillis);
+        this.staleTtl = Duration.ofMillis(staleTtlMillis);
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+        this.lockWaitMillis = lockWaitMillis;
+    }
+
+    // pageKey(정렬, 페이지, 크기 등)에 해당하는 응답을 반환, 어디에도 없으면 loader로 만든 응답을 저장 後 반환
+    // type은 Redis에 JSON으로 저장된 응답을 다시 읽을 때 사용할 응답 타입
+    @SuppressWarnings("unchecked")
+    public <T> T get(String pageKey, JavaType type, Supplier<T> loader) {
+        long currentGeneration = generation;
+        String localKey = currentGeneration + ":" + pageKey;
+
+        T page = (T) localPages.getIfPresent(localKey);
+        if (page != null) {
+            return page;
+        }
+
+        String sharedKey = KEY_PREFIX + currentGeneration + ":" + pageKey;
+        String staleKey = STALE_KEY_PREFIX + pageKey;
+        // 현재 응답과 이전 응답을 한 번에 조회 (MGET)
+        List<String> sharedPages = readShared(sharedKey, staleKey);
+        page = parse(sharedPages.get(0), type);
+
+        if (page == null) {
+            String lockKey = LOCK_KEY_PREFIX + currentGeneration + ":" + pageKey;
+
+            if (tryLock(lockKey)) {
+                page = loadAndStore(sharedKey, staleKey, lockKey, currentGeneration, loader);
+            } else {
+                // 다른 서버가 만드는 중이면 직전 세대의 응답을 반환 (Local 캐시에는 저장하지 않음)
+                T stalePage = parseStale(sharedPages.get(1), currentGeneration, type);
+                if (stalePage != null) {
+                    return stalePage;
+                }
+
+                page = waitForShared(sharedKey, type, loader);
+            }
+        }
+
+        localPages.put(localKey, page);
+        return page;
+    }
+
+    // 질문 목록이 바뀐 트랜잭션이 커밋된 後 모든 서버의 목록 캐시를 비움
+    // 좋아요 수만 바뀐 경우도 비워야 좋아요를 누른 사용자가 목록에서 바로 자신의 좋아요를 볼 수 있음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        localPages.invalidateAll();
+
+        try {
+            Long newGeneration = redisTemplate.opsForValue().increment(GENERATION_KEY);
+
+            if (newGeneration != null) {
+                generation = newGeneration;
+                redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(
+                        MESSAGE_SERIALIZER.serialize(CHANNEL), MESSAGE_SERIALIZER.serialize(String.valueOf(newGeneration))));
+            }
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("# Failed to broadcast question page cache invalidation", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String newGeneration = MESSAGE_SERIALIZER.deserialize(message.getBody());
+
+        if (newGeneration != null) {
+            applyGeneration(Long.parseLong(newGeneration));
+        }
+    }
+
+    // Redis가 내려가 있어도 애플리케이션은 기동되도록 구독은 기동이 끝난 뒤에 시도
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (subscribed || !listenerContainer.isRunning()) {
+            return;
+        }
+
+        ChannelTopic topic = new ChannelTopic(CHANNEL);
+
+        try {
+            listenerContainer.addMessageListener(this, topic);
+            subscribed = true;
+        } catch (Exception e) {
+            listenerContainer.removeMessageListener(this, topic);
+            log.warn("# Failed to subscribe question page cache channel", e);
+        }
+    }
+
+    // pub/sub 메시지를 놓친 경우에 대비해 주기적으로 Redis의 세대 값을 확인
+    @Scheduled(fixedDelayString = "${question.page-cache.generation-sync-interval-ms:5000}")
+    public void syncGeneration() {
+        subscribe();
+
+        try {
+            Object sharedGeneration = redisTemplate.opsForValue().get(GENERATION_KEY);
+
+            if (sharedGeneration != null) {
+                applyGeneration(Long.parseLong(sharedGeneration.toString()));
+            }
+        } catch (DataAccessException | SerializationException | NumberFormatException e) {
+            log.debug("# Failed to read question page cache generation", e);
+        }
+    }
+
+    private void applyGeneration(long newGeneration) {
+        if (newGeneration != generation) {
+            generation = newGeneration;
+            localPages.invalidateAll();
+        }
+    }
+
+    // Lock을 잡은 서버만 DB에서 만들어 Redis에 저장
+    private <T> T loadAndStore(String sharedKey, String staleKey, String lockKey,
+                               long pageGeneration, Supplier<T> loader) {
+        try {
+            T page = loader.get();
+            writeShared(sharedKey, staleKey, pageGeneration, render(page));
+            return page;
+        } finally {
+            unlock(lockKey);
+        }
+    }
+
+    // 이전 응답도 없으면 Lock을 잡은 서버가 저장할 때까지 기다리고, 그래도 없으면 직접 조회
+    private <T> T waitForShared(String sharedKey, JavaType type, Supplier<T> loader) {
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            T page = parse(readShared(sharedKey).get(0), type);
+            if (page != null) {
+                return page;
+            }
+        }
+
+        return loader.get();
+    }
+
+    // Redis에 연결할 수 없거나 값을 읽을 수 없으면 모두 null
+    private List<String> readShared(String... keys) {
+        List<String> pages = new ArrayList<>(Collections.nCopies(keys.length, null));
+
+        try {
+            List<Object> values = redisBatchOperations.getAll(Arrays.asList(keys));
+
+            for (int i = 0; i < keys.length; i++) {
+                Object value = values.get(i);
+                pages.set(i, value != null ? value.toString() : null);
+            }
+        } catch (DataAccessException | SerializationException e) {
+            log.debug("# Failed to read question page cache", e);
+        }
+        return pages;
+    }
+
+    // 현재 응답, 이전 응답을 각각의 TTL로 한 번에 저장 (Pipeline)
+    // 이전 응답에는 어느 세대의 응답인지 같이 저장 ("세대:JSON")
+    private void writeShared(String sharedKey, String staleKey, long pageGeneration, String page) {
+        try {
+            redisBatchOperations.pipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForValue().set(sharedKey, page, sharedTtl);
+                    operations.opsForValue().set(staleKey, pageGeneration + ":" + page, staleTtl);
+                    return null;
+                }
+            });
+        } catch (DataAccessException | SerializationException e) {
+            log.debug("# Failed to write question page cache", e);
+        }
+    }
+
+    // Redis에 연결할 수 없으면 Lock 없이 직접 조회
+    private boolean tryLock(String lockKey) {
+        try {
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", lockTtl));
+        } catch (DataAccessException e) {
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey) {
+        try {
+            redisTemplate.delete(lockKey);
+        } catch (DataAccessException e) {
+            log.debug("# Failed to release question page cache lock", e);
+        }
+    }
+
+    // 직전 세대(또는 그 이후)에 만든 이전 응답만 사용 (더 오래된 응답은 캐시에 없는 것으로 처리)
+    private <T> T parseStale(String stalePage, long currentGeneration, JavaType type) {
+        if (stalePage == null) {
+            return null;
+        }
+
+        int index = stalePage.indexOf(':');
+        try {
+            if (index < 0 || Long.parseLong(stalePage.substring(0, index)) < currentGeneration - 1) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        return parse(stalePage.substring(index + 1), type);
+    }
+
+    // 읽을 수 없는 JSON(응답 형식이 바뀐 이전 버전의 캐시 등)은 캐시에 없는 것으로 처리
+    private <T> T parse(String page, JavaType type) {
+        if (page == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(page, type);
+        } catch (JsonProcessingException e) {
+            log.debug("# Failed to parse cached question page", e);
+            return null;
+        }
+    }
+
+    private String render(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render question page", e);
+        }
+    }
+}
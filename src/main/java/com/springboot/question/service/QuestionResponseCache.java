@@ -0,0 +1,146 @@
+package com.springboot.question.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.springboot.helper.event.QuestionChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+// 인기 질문의 단건 조회 응답(JSON)을 렌더링 된 상태로 보관하는 Cache
+// 공개 질문만 저장하므로 사용자와 상관없이 같은 응답을 돌려줄 수 있다 (비밀글은 저장 X)
+// 질문이 바뀌면(QuestionChangedEvent) 버전을 올려서, 변경 전에 조회를 시작한 요청이 저장한 응답은 더 이상 사용되지 않게 함
+// 버전은 응답과 같은 Entry에 두므로 응답보다 먼저 사라지지 않음
+// - 변경된 질문은 응답 대신 새 버전만 가진 Entry(tombstone)를 남김
+// - TTL이 지난 응답은 Cache에서 바로 지우지 않고 버전만 남겨둠 (조회 時 tombstone으로 바꿈)
+// - Entry는 용량 초과로만 삭제되고, 삭제된 버전은 removedVersion에 남겨서 그 이전에 받은 버전의 저장을 막음
+public class QuestionResponseCache {
+    // 응답 하나당 byte 배열 外에 추가로 잡는 메모리 (Key, Entry 객체 크기)
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    // questionId -> 현재 버전 + 렌더링 된 응답
+    private final Cache<Long, Entry> responses;
+    // 모든 버전은 이 값에서 발급하므로 한번 쓴 버전은 다시 나오지 않음
+    private final AtomicLong versionSequence = new AtomicLong();
+    // 용량 초과로 삭제된 Entry 中 가장 큰 버전
+    private final AtomicLong removedVersion = new AtomicLong();
+
+    @Autowired
+    public QuestionResponseCache(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${question.response-cache.max-bytes:67108864}") long maxBytes,
+                                 @Value("${question.response-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(objectMapper, meterRegistry, maxBytes, Duration.ofSeconds(ttlSeconds),
+                Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    // 테스트에서 시간, 용량 초과 삭제 시점을 직접 제어하기 위한 생성자
+    QuestionResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          long maxBytes, Duration ttl, Ticker ticker, Executor executor) {
+        this.objectMapper = objectMapper;
+        this.ticker = ticker;
+        this.ttlNanos = ttl.toNanos();
+        // evictionListener는 삭제와 같은 원자적 연산 안에서 실행되므로, 삭제된 뒤의 put()은 항상 갱신된 removedVersion을 봄
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long questionId, Entry entry) -> entry.weight())
+                .evictionListener((Long questionId, Entry entry, RemovalCause cause) ->
+                        removedVersion.accumulateAndGet(entry.version, Math::max))
+                .executor(executor)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "question.response");
+    }
+
+    // 현재 버전의 렌더링 된 응답을 반환 (없거나 TTL이 지났으면 null)
+    public byte[] get(Long questionId) {
+        Entry entry = responses.getIfPresent(questionId);
+        if (entry == null || entry.body == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            // 응답만 버리고 버전은 남겨둠
+            responses.asMap().computeIfPresent(questionId,
+                    (key, current) -> current == entry ? new Entry(entry.version, null, entry.writtenAt) : current);
+            return null;
+        }
+
+        return entry.body;
+    }
+
+    // DB 조회 전에 호출해서 버전을 받아두고, 렌더링 후 put()에 같이 넘겨야 함
+    public long currentVersion(Long questionId) {
+        Entry entry = responses.getIfPresent(questionId);
+
+        // Entry가 없으면 지금까지 발급된 마지막 버전 (이후의 변경은 모두 이보다 큰 버전)
+        return entry != null ? entry.version : versionSequence.get();
+    }
+
+    // 응답을 JSON으로 렌더링해서 저장 後 반환
+    // 조회 도중 버전이 바뀌었으면 저장하지 않음
+    public byte[] put(Long questionId, long version, Object response) {
+        byte[] body = render(response);
+
+        responses.asMap().compute(questionId, (key, current) -> {
+            if (current == null) {
+                return version >= removedVersion.get() ? new Entry(version, body, ticker.read()) : null;
+            }
+            return current.version == version ? new Entry(version, body, ticker.read()) : current;
+        });
+
+        return body;
+    }
+
+    // 질문이 바뀐 트랜잭션이 커밋된 後 버전을 올리고 기존 응답을 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        invalidate(event.getQuestionId());
+    }
+
+    public void invalidate(Long questionId) {
+        responses.asMap().compute(questionId,
+                (key, current) -> new Entry(versionSequence.incrementAndGet(), null, ticker.read()));
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ticker.read() - entry.writtenAt >= ttlNanos;
+    }
+
+    private byte[] render(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render question response", e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final long version;
+        // null이면 버전만 남은 Entry (tombstone)
+        private final byte[] body;
+        private final long writtenAt;
+
+        private int weight() {
+            return (body != null ? body.length : 0) + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
@@ -3,22 +3,28 @@ package com.springboot.question.service;
 import com.springboot.auth.utils.CustomUserDetails;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import com.springboot.helper.event.QuestionChangedEvent;
 import com.springboot.like.repository.LikeRepository;
+import com.springboot.like.service.LikeCountBuffer;
+import com.springboot.question.dto.QuestionResponseDto;
 import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionFeedCursor;
+import com.springboot.question.repository.QuestionFeedSort;
 import com.springboot.question.repository.QuestionRepository;
 import com.springboot.user.repository.UserRepository;
 import com.springboot.utils.CheckUserRoles;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
 
-@Transactional
 @Service
 @Slf4j
 public class QuestionService {
@@ -26,16 +32,27 @@ public class QuestionService {
     private final CheckUserRoles checkUserRoles;
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
-    private final StorageService storageService;
+    private final QuestionImageUploader questionImageUploader;
+    private final QuestionViewCounter questionViewCounter;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
 
     public QuestionService(QuestionRepository questionRepository,
-                           CheckUserRoles checkUserRoles, LikeRepository likeRepository, UserRepository userRepository, StorageService storageService) {
+                           CheckUserRoles checkUserRoles, LikeRepository likeRepository, UserRepository userRepository, QuestionImageUploader questionImageUploader,
+                           QuestionViewCounter questionViewCounter, LikeCountBuffer likeCountBuffer,
+                           ApplicationEventPublisher publisher,
+                           PlatformTransactionManager transactionManager) {
 
         this.questionRepository = questionRepository;
         this.checkUserRoles = checkUserRoles;
         this.likeRepository = likeRepository;
         this.userRepository = userRepository;
-        this.storageService = storageService;
+        this.questionImageUploader = questionImageUploader;
+        this.questionViewCounter = questionViewCounter;
+        this.likeCountBuffer = likeCountBuffer;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public Question createQuestion(Question question,
@@ -52,24 +69,30 @@ public class QuestionService {
         // 요청한 사용자가 맞는지 확인
         checkUserRoles.matchUserId(question.getUser().getUserId(), customUserDetails);
 
-        List<String> imageUrls = new ArrayList<>();  // 이미지 URL을 저장할 리스트
-
-        // 파일이 여러 개일 경우 처리
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                if (!file.isEmpty()) {
-                    log.info("Uploading file to S3...");
-                    storageService.store(file);  // S3에 파일 업로드
-                    String fileUrl = "http://bucket-test-imges.s3.amazonaws.com/" + file.getOriginalFilename();
-                    imageUrls.add(fileUrl);  // 파일 URL을 리스트에 추가
-                }
-            }
+        // 이 메서드는 트랜잭션 밖에서 실행됨 (TxConfig) : 이미지를 모두 업로드 한 後 질문을 저장
+        // 업로드는 QuestionImageUploader의 Thread Pool에서 동시에 진행
+        List<String> imageUrls = questionImageUploader.upload(files);
+        if (!imageUrls.isEmpty()) {
             question.setImageUrls(imageUrls);  // 이미지 URL들을 질문에 설정
         }
 
-        return questionRepository.save(question);  // 질문 저장
+        Question savedQuestion;
+        try {
+            // 질문 저장 (이 트랜잭션에서만 Connection 사용)
+            savedQuestion = transactionTemplate.execute(status -> questionRepository.save(question));
+        } catch (RuntimeException e) {
+            // 질문 저장에 실패하면 업로드 한 이미지 삭제
+            questionImageUploader.delete(imageUrls);
+            throw e;
+        }
+
+        // 질문 목록 캐시를 비움
+        publisher.publishEvent(new QuestionChangedEvent(this, savedQuestion.getQuestionId()));
+
+        return savedQuestion;
     }
 
+    // 조회만 하는 메서드 (조회수는 QuestionViewCounter에 모아두었다가 따로 DB에 반영)
     public Question findQuestion(Long questionId, Long currentId) {
 
         Question question = findVerifiedQuestion(questionId);
@@ -83,37 +106,22 @@ public class QuestionService {
         verifyQuestionDeleteStatus(question);
 
         if (question.getQuestionVisibility() != Question.QuestionVisibility.QUESTION_SECRET) {
-            question.setViewCount(question.getViewCount() + 1);
+            questionViewCounter.increment(questionId);
         }
 
 
-        questionRepository.save(question);
-
-
         return question;
     }
 
-    public Page<Question> findQuestions(int page, int size) {
-        // Secret Qeustion 은 조회되면 안됨
-
-        // 전체 조회 時 SECRET Question "비공개글 입니다" 로 변환
-        Page<Question> questionPage = questionRepository.findByQuestionStatusNotIn(
+    // find* 메서드는 읽기 전용 트랜잭션 (TxConfig) : 조회한 데이터를 수정하지 않으므로 flush(UPDATE)가 발생하지 않음
+    public Page<QuestionResponseDto> findQuestions(int page, int size) {
+        // 전체 조회 時 SECRET Question은 "SECRET", "비공개글입니다." 로 가려진 DTO로 조회
+        return questionRepository.findResponsesByQuestionStatusNotIn(
                 Arrays.asList(
                         Question.QuestionStatus.QUESTION_DELETED,
                         Question.QuestionStatus.QUESTION_DEACTIVED
                 ),
                 PageRequest.of(page - 1, size, Sort.by("questionId").descending()));
-
-        List<Question> questions = questionPage.getContent();
-
-        for (Question question : questions) {
-            if (question.getQuestionVisibility() == Question.QuestionVisibility.QUESTION_SECRET) {
-                question.setTitle("SECRET");
-                question.setQuestionContext("비공개글입니다.");
-            }
-        }
-
-        return questionPage;
     }
 
     public void deleteQuestion(long questionId, CustomUserDetails customUserDetails) {
@@ -131,6 +139,8 @@ public class QuestionService {
         question.setQuestionStatus(Question.QuestionStatus.QUESTION_DELETED);
 
         questionRepository.save(question);
+
+        publisher.publishEvent(new QuestionChangedEvent(this, questionId));
     }
 
     public Question updateQuestion(Long questionId, Long userId, Question question) {
@@ -154,26 +164,27 @@ public class QuestionService {
 
         findQuestion.setUser(findQuestion.getUser());
 
-        return questionRepository.save(findQuestion);
+        Question savedQuestion = questionRepository.save(findQuestion);
+
+        publisher.publishEvent(new QuestionChangedEvent(this, questionId));
+
+        return savedQuestion;
     }
 
-    public List<Question> getQuestionSorted(String sortBy) {
-        switch (sortBy) {
-            case "latest":
-                return questionRepository.findAllByOrderByCreatedAtDesc();
-            case "oldest":
-                return questionRepository.findAllByOrderByCreatedAtAsc();
-            case "likesDesc":
-                return questionRepository.findAllByOrderByLikeCountDesc();
-            case "likesAsc":
-                return questionRepository.findAllByOrderByLikeCountAsc();
-            case "viewsDesc":
-                return questionRepository.findAllByOrderByViewCountDesc();
-            case "viewsAsc":
-                return questionRepository.findAllByOrderByViewCountAsc();
-            default:
-                throw new IllegalArgumentException("Invalid sort criteria");
-        }
+    // 정렬 기준별 질문 목록을 cursor 다음 위치부터 조회 (전체 테이블을 읽지 않음)
+    // 다음 페이지가 있는지 알 수 있도록 size + 1개까지 조회해서 반환
+    public List<Question> findQuestionFeed(QuestionFeedSort sort, QuestionFeedCursor cursor, int size) {
+        return questionRepository.findFeed(sort, cursor, size + 1);
+    }
+
+    // DB의 LikeCount에 아직 반영되지 않은 좋아요 수를 더해서 반환하는 메서드
+    // (write-behind 모드에서도 사용자가 누른 좋아요가 바로 보이도록)
+    public int getCurrentLikeCount(Question question) {
+        return getCurrentLikeCount(question.getQuestionId(), question.getLikeCount());
+    }
+
+    public int getCurrentLikeCount(Long questionId, int likeCount) {
+        return Math.max(0, likeCount + likeCountBuffer.getPendingDelta(questionId));
     }
 
     // LikeCount를 증가 시키는 메서드 생성
@@ -0,0 +1,79 @@
+package com.springboot.question.service;
+
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.utils.PendingCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+
+@Slf4j
+@Component
+// Question 조회수를 메모리에 모아두었다가 주기적으로 DB에 반영하는 Class
+// 조회할 때마다 Question 전체를 UPDATE 하지 않고, 동시에 조회해도 증가분이 누락되지 않도록 LongAdder 사용
+public class QuestionViewCounter {
+    private final PendingCounters<Long> pendingViews = new PendingCounters<>();
+    private final QuestionRepository questionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public QuestionViewCounter(QuestionRepository questionRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.questionRepository = questionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 조회수 1 증가 (DB 반영은 flush 時)
+    public void increment(Long questionId) {
+        pendingViews.add(questionId, 1);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long questionId) {
+        return pendingViews.get(questionId);
+    }
+
+    // 모아둔 조회수를 한 트랜잭션에서 Question별 "view_count = view_count + ?" UPDATE로 반영
+    // flush 중에 들어온 증가분은 다음 flush에서 반영되고, 조회가 없던 질문은 메모리에서 제거됨
+    @Scheduled(fixedDelayString = "${question.view-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = pendingViews.drain();
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach(this::increaseViewCount));
+        } catch (RuntimeException e) {
+            // DB 반영에 실패하면 다음 flush에서 다시 반영하도록 되돌려 놓음
+            deltas.forEach(pendingViews::add);
+            throw e;
+        }
+    }
+
+    // view_count는 int 컬럼이므로 int 범위를 넘는 증가분은 나누어 반영 (intValue()로 잘리지 않도록)
+    private void increaseViewCount(Long questionId, long delta) {
+        while (delta > 0) {
+            int step = (int) Math.min(delta, Integer.MAX_VALUE);
+            questionRepository.increaseViewCount(questionId, step);
+            delta -= step;
+        }
+    }
+
+    // 애플리케이션 종료 時 남아있는 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("# Failed to flush pending view counts", e);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.springboot.question.service;
 
+import com.springboot.exception.StorageException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
 
 @Slf4j
 public class S3StorageService implements StorageService {
@@ -22,29 +25,42 @@ public class S3StorageService implements StorageService {
     }
 
     @Override
-    public void store(MultipartFile multipartFile) {
+    public void store(MultipartFile multipartFile, String filename) {
 
         // S3 object의 키를 만든다.
-        String key = makeS3OBjectKey(BUCKET_IMAGE_PATH, multipartFile);
+        String key = makeS3OBjectKey(BUCKET_IMAGE_PATH, filename);
 
         // S3에 Put할 때 필요한 PutObjectRequest 객체를 생성한다.
         PutObjectRequest request = createPutObjectRequest(BUCKET_NAME, key);
 
-        try {
-            final Path path = multipartFileToPath(multipartFile);
-            PutObjectResponse response = s3Client.putObject(request,  path); // AWS S3로 업로드
+        // 파일 전체를 메모리나 임시 파일에 다시 쓰지 않고 요청의 InputStream을 그대로 S3로 전송
+        // (S3Client는 여러 요청이 같이 사용하므로 업로드 後 닫지 않음)
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            PutObjectResponse response = s3Client.putObject(request,
+                    RequestBody.fromInputStream(inputStream, multipartFile.getSize())); // AWS S3로 업로드
 
             log.info("# File uploaded to the s3 successfully. ETag: " + response.eTag());
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        } finally {
-            s3Client.close();
+        } catch (IOException e) {
+            throw new StorageException("Failed to store file.", e);
+        }
+    }
+
+    @Override
+    public void delete(String filename) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(BUCKET_NAME)
+                .key(BUCKET_IMAGE_PATH.concat("/").concat(filename))
+                .build();
+
+        try {
+            s3Client.deleteObject(request);
+        } catch (SdkException e) {
+            throw new StorageException("Failed to delete file.", e);
         }
     }
 
 
-    private String makeS3OBjectKey(String bucketCoffeeImagePath, MultipartFile multipartFile) {
-        final String fileName = multipartFile.getOriginalFilename();
+    private String makeS3OBjectKey(String bucketCoffeeImagePath, String fileName) {
         return BUCKET_IMAGE_PATH.concat("/").concat(fileName);
     }
 
@@ -54,16 +70,4 @@ public class S3StorageService implements StorageService {
                 .key(key) // S3에 저장될 파일 이름
                 .build();
     }
-
-    private Path multipartFileToPath(MultipartFile multipartFile) {
-        try {
-            Path path = Files.createTempFile("temp", multipartFile.getOriginalFilename());
-
-            // MultipartFile의 내용을 Path에 기록
-            Files.write(path, multipartFile.getBytes());
-            return path;
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
 }
\ No newline at end of file
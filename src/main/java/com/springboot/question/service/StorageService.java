@@ -1,8 +1,11 @@
-
 package com.springboot.question.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
 public interface StorageService {
-    void store(MultipartFile file);
+    // 파일을 filename으로 저장 (같은 이름의 파일이 있으면 덮어씀)
+    void store(MultipartFile file, String filename);
+
+    // 저장한 파일 삭제 (이미 없으면 무시)
+    void delete(String filename);
 }
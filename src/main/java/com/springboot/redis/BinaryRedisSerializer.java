@@ -0,0 +1,136 @@
+package com.springboot.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Redis Value(문자열)를 저장하는 Serializer
+// 캐시 값은 사용하는 쪽에서 JSON 문자열로 만들어 저장하므로(질문 목록 등) 문자열만 지원
+// - 짧은 문자열은 Header 없이 UTF-8 그대로 저장 (INCR 카운터, Lock 값, 이전에 StringRedisSerializer로 저장한 값과 호환)
+// - 크기가 기준 이상이면 Header를 붙이고 Body를 압축 (Deflater BEST_SPEED)
+//   형식 : [MAGIC 1byte][VERSION 1byte][FLAGS 1byte][TYPE ID 1byte][Body]
+// - 지원하지 않는 VERSION, TYPE ID(문자열이 아닌 값)로 저장된 값은 null(캐시 miss)로 처리
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+    // UTF-8 문자열의 첫 byte가 될 수 없는 값 (0x80 ~ 0xBF는 continuation byte)
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte VERSION = 1;
+
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int FLAG_STRING = 1 << 1;
+    private static final int HEADER_LENGTH = 4;
+    private static final int STRING_TYPE_ID = 0;
+
+    private final int compressionThreshold;
+
+    public BinaryRedisSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        if (!(value instanceof String)) {
+            throw new SerializationException("Unsupported redis value type: " + value.getClass().getName());
+        }
+
+        byte[] text = ((String) value).getBytes(StandardCharsets.UTF_8);
+
+        return text.length < compressionThreshold
+                ? text
+                : encode(text);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        if (bytes.length < HEADER_LENGTH || bytes[1] != VERSION
+                || (bytes[2] & FLAG_STRING) == 0 || bytes[3] != STRING_TYPE_ID) {
+            return null;
+        }
+
+        byte[] body = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+
+        if ((bytes[2] & FLAG_COMPRESSED) != 0) {
+            body = decompress(body);
+        }
+
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private byte[] encode(byte[] body) {
+        int flags = FLAG_STRING;
+        byte[] compressed = compress(body);
+
+        // 압축해도 작아지지 않으면 그대로 저장
+        if (compressed.length < body.length) {
+            body = compressed;
+            flags |= FLAG_COMPRESSED;
+        }
+
+        byte[] encoded = new byte[HEADER_LENGTH + body.length];
+        encoded[0] = MAGIC;
+        encoded[1] = VERSION;
+        encoded[2] = (byte) flags;
+        encoded[3] = (byte) STRING_TYPE_ID;
+        System.arraycopy(body, 0, encoded, HEADER_LENGTH, body.length);
+
+        return encoded;
+    }
+
+    private byte[] compress(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] body) {
+        Inflater inflater = new Inflater();
+
+        try {
+            inflater.setInput(body);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+            byte[] chunk = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(chunk);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed redis value");
+                }
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Failed to decompress redis value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
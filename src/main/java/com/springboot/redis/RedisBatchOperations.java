@@ -0,0 +1,35 @@
+package com.springboot.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+@Component
+// 여러 Key에 대한 Redis 명령을 한 번의 왕복(MGET, Pipeline)으로 실행하는 Class
+// Key 개수만큼 명령을 따로 보내면 Key 개수만큼 네트워크 왕복이 생기므로 여러 Key를 다룰 때 사용
+public class RedisBatchOperations {
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisBatchOperations(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // 여러 Key의 값을 한 번에 조회 (keys 순서대로, 없는 Key는 null)
+    public List<Object> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+
+    // 여러 명령을 Pipeline으로 실행 (callback 안의 명령 결과가 순서대로 반환됨)
+    public List<Object> pipelined(SessionCallback<?> callback) {
+        return redisTemplate.executePipelined(callback);
+    }
+}
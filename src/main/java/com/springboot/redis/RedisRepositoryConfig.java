@@ -1,15 +1,28 @@
 package com.springboot.redis;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 @EnableRedisRepositories
 public class RedisRepositoryConfig {
@@ -20,13 +33,73 @@ public class RedisRepositoryConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${spring.data.redis.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+
+    @Value("${spring.data.redis.command-timeout-ms:500}")
+    private long commandTimeoutMillis;
+
+    @Value("${spring.data.redis.connect-timeout-ms:1000}")
+    private long connectTimeoutMillis;
+
+    @Value("${spring.data.redis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.pool.max-wait-ms:500}")
+    private long poolMaxWaitMillis;
+
+    private final MeterRegistry meterRegistry;
+
+    public RedisRepositoryConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    // Lettuce의 Event Loop, Thread Pool을 모든 Connection이 같이 사용하도록 하나만 생성
+    // 명령 종류별 응답 시간을 Histogram으로 기록 (lettuce.command.completion, lettuce.command.firstresponse)
+    public ClientResources lettuceClientResources() {
+        MicrometerOptions options = MicrometerOptions.builder()
+                .histogram(true)
+                .build();
+
+        return DefaultClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, options))
+                .build();
+    }
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
         redisStandaloneConfiguration.setHostName(host); // Redis 서버의 호스트 설정
         redisStandaloneConfiguration.setPort(port);     // Redis 서버의 포트 설정
 
-        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration);
+        // 일반 명령은 하나의 공유 Connection을 사용하고, Pipeline, Transaction 등 전용 Connection이 필요할 때 Pool에서 가져옴
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMillis));
+
+        LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .clientResources(lettuceClientResources())
+                // Redis가 응답하지 않을 때 요청이 오래 대기하지 않도록 명령, 연결 시간 제한
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                                .build())
+                        .build())
+                .build();
+
+        LettuceConnectionFactory lettuceConnectionFactory =
+                new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
         return lettuceConnectionFactory; // RedisConnectionFactory 빈 반환
     }
 
@@ -37,8 +110,18 @@ public class RedisRepositoryConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
 
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        // 문자열(캐시 된 JSON 등)을 저장 (기준 크기 이상이면 압축)
+        redisTemplate.setValueSerializer(new BinaryRedisSerializer(compressionThreshold));
 
         return redisTemplate; // RedisTemplate 빈 반환
     }
+
+    @Bean
+    // Redis pub/sub 메시지를 수신하는 Container (각 Listener는 사용하는 쪽에서 등록)
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+
+        return container;
+    }
 }
\ No newline at end of file
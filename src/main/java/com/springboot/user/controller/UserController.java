@@ -1,5 +1,6 @@
 package com.springboot.user.controller;
 
+import com.springboot.auth.revocation.TokenRevocationService;
 import com.springboot.auth.userdetailservice.UsersDetailService;
 import com.springboot.auth.utils.CustomUserDetails;
 import com.springboot.dto.MultiResponseDto;
@@ -17,7 +18,6 @@ import com.springboot.utils.UriCreator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -41,25 +41,25 @@ public class UserController {
     private final UserService userService;
     private final UserMapper userMapper;
     private final CheckUserRoles checkUserRoles;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
 
     public UserController(UserService userService, UserMapper userMapper,
-                          CheckUserRoles checkUserRoles, RedisTemplate<String, Object> redisTemplate) {
+                          CheckUserRoles checkUserRoles, TokenRevocationService tokenRevocationService) {
         this.userService = userService;
         this.userMapper = userMapper;
         this.checkUserRoles = checkUserRoles;
-        this.redisTemplate = redisTemplate;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     // 로그아웃 구현
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(@AuthenticationPrincipal CustomUserDetails customUserDetails,
                                        @RequestHeader("Authorization") String authorization) {
-        // JWT 토큰을 Redis에서 제거하기 위해 사용자 ID 또는 토큰을 가져옴
+        // 폐기할 JWT 토큰을 가져옴
         String token = authorization.replace("Bearer ", "");
 
-        // Redis에서 해당 토큰 삭제
-        redisTemplate.delete(token);
+        // 토큰을 폐기 목록(Redis)에 등록 -> 이후 같은 토큰으로 요청하면 401
+        tokenRevocationService.revoke(token);
 
         return ResponseEntity.ok().build();
     }
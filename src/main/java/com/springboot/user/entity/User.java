@@ -8,6 +8,8 @@ import com.springboot.question.entity.Question;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -17,12 +19,16 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+// 2차 캐시 (region 설정은 ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 // user가 DB에서 사용하는 예약어이기때문에 따로 설정
 @Table(name = "users")
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_generator")
+    @SequenceGenerator(name = "user_seq_generator", sequenceName = "USER_SEQ", allocationSize = 50)
     private Long userId;
 
     @Column(nullable = false, unique = true)
@@ -37,6 +43,7 @@ public class User extends BaseEntity {
     // User마다 권한 부여 -> 자동 테이블 생성(h2)
     @Column(nullable = false)
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<String> roles = new ArrayList<>();
 
     @OneToMany(mappedBy = "user")
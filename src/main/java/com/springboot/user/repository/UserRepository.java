@@ -1,11 +1,27 @@
 package com.springboot.user.repository;
 
+import com.springboot.bulkexport.dto.UserExportDto;
 import com.springboot.user.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 일괄 등록 時 이미 가입된 Email을 한 번에 조회
+    List<User> findByEmailIn(Collection<String> emails);
+
+    // 전체 회원을 한 번의 쿼리로 앞에서부터 읽어가는 Stream (내보내기용, 트랜잭션 안에서 사용 後 close 해야 함)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.springboot.bulkexport.dto.UserExportDto(u.userId, u.email, u.name, u.userStatus, u.createdAt) " +
+            "FROM User u ORDER BY u.userId")
+    Stream<UserExportDto> streamAllForExport();
 }
@@ -4,7 +4,10 @@ import com.springboot.auth.utils.AuthorityUtils;
 import com.springboot.auth.utils.CustomUserDetails;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
-import com.springboot.helper.event.UserRegistrationApplicationEvent;
+import com.springboot.helper.cache.EntityCacheEvictor;
+import com.springboot.helper.event.QuestionChangedEvent;
+import com.springboot.outbox.entity.OutboxEvent;
+import com.springboot.outbox.service.OutboxService;
 import com.springboot.user.entity.User;
 import com.springboot.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -14,25 +17,29 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
-@Transactional
 @Service
 public class UserService {
     private final UserRepository userRepository;
     private final ApplicationEventPublisher publisher;
     private final PasswordEncoder passwordEncoder;
     private final AuthorityUtils authorityUtils;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final OutboxService outboxService;
 
-    public UserService(UserRepository userRepository, ApplicationEventPublisher publisher, PasswordEncoder passwordEncoder, AuthorityUtils authorityUtils) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher publisher, PasswordEncoder passwordEncoder, AuthorityUtils authorityUtils,
+                       EntityCacheEvictor entityCacheEvictor, OutboxService outboxService) {
         this.userRepository = userRepository;
         this.publisher = publisher;
         this.passwordEncoder = passwordEncoder;
         this.authorityUtils = authorityUtils;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.outboxService = outboxService;
     }
 
     public User createUser(User user) {
@@ -46,7 +53,9 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
 
-        publisher.publishEvent(new UserRegistrationApplicationEvent(this, savedUser));
+        // 가입 메일은 커밋 後 OutboxDispatcher가 전달 (UserRegistrationEventListener)
+        outboxService.record(OutboxEvent.EventType.USER_REGISTERED, savedUser.getUserId(),
+                Map.of("email", savedUser.getEmail()));
 
         return savedUser;
     }
@@ -82,6 +91,11 @@ public class UserService {
         user.quitUser();
 
         userRepository.save(user);
+
+        // 탈퇴한 회원, 비활성화 된 질문이 2차 캐시에 남지 않도록 비움
+        entityCacheEvictor.evictUser(user);
+        user.getQuestions().forEach(question ->
+                publisher.publishEvent(new QuestionChangedEvent(this, question.getQuestionId())));
     }
 
     // 이미 가입 되어있는 Email인지 검증하는 메서드
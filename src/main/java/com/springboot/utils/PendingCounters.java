@@ -0,0 +1,55 @@
+package com.springboot.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Key별 증감분을 LongAdder로 모아두었다가 한번에 꺼내가는(drain) 카운터 모음
+// 같은 Key에 동시에 더해도 Lock 없이 누락되지 않고, 꺼내갈 때 증감분이 0인 Key는 Map에서 제거해서 한 번이라도 사용된 Key만큼 계속 늘어나지 않음
+public class PendingCounters<K> {
+    private final Map<K, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        while (delta != 0) {
+            LongAdder adder = counters.computeIfAbsent(key, k -> new LongAdder());
+            adder.add(delta);
+
+            if (counters.get(key) == adder) {
+                return;
+            }
+            // drain()이 그 사이에 Map에서 제거한 LongAdder에 더했다면, drain()이 가져가지 못한 만큼 다시 더함
+            // (sumThenReset()은 Cell별로 원자적이라 같은 증감분을 두 번 가져가지 않음)
+            delta = adder.sumThenReset();
+        }
+    }
+
+    public long get(K key) {
+        LongAdder adder = counters.get(key);
+
+        return adder != null ? adder.sum() : 0;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    // Key별로 모인 증감분을 꺼내고 0으로 초기화 (증감분이 0인 Key는 결과에 넣지 않음)
+    // 지난 drain() 이후 증감분이 0인 Key는 Map에서 제거
+    public Map<K, Long> drain() {
+        Map<K, Long> deltas = new HashMap<>();
+
+        counters.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+
+            // 제거 後에 add()가 더한 값은 add()가 다시 더하고, 제거 前에 더한 값은 여기서 가져감
+            if (delta == 0 && counters.remove(key, adder)) {
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        return deltas;
+    }
+}
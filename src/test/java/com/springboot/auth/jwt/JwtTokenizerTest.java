@@ -0,0 +1,69 @@
+package com.springboot.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenizerTest {
+    private static final String SECRET_KEY = "test-secret-key-test-secret-key-test-secret-key-0123";
+
+    private JwtTokenizer jwtTokenizer;
+    private String base64EncodedSecretKey;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenizer = new JwtTokenizer(new VerifiedTokenCache(new SimpleMeterRegistry(), 100));
+        ReflectionTestUtils.setField(jwtTokenizer, "secretKey", SECRET_KEY);
+        jwtTokenizer.init();
+        base64EncodedSecretKey = jwtTokenizer.encodedBase64SecretKey(SECRET_KEY);
+    }
+
+    @Test
+    void parsesValidTokenOnceIntoClaims() {
+        String token = accessToken(jwtTokenizer.getTokenExpiration(10));
+
+        Claims claims = jwtTokenizer.parseValidClaims(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo("user@gmail.com");
+        assertThat(claims.get("userId", Long.class)).isEqualTo(1L);
+        assertThat(jwtTokenizer.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void returnsNullForTamperedExpiredOrMalformedTokens() {
+        String token = accessToken(jwtTokenizer.getTokenExpiration(10));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = accessToken(new Date(System.currentTimeMillis() - 1000));
+
+        assertThat(jwtTokenizer.parseValidClaims(tampered)).isNull();
+        assertThat(jwtTokenizer.parseValidClaims(expired)).isNull();
+        assertThat(jwtTokenizer.parseValidClaims("not-a-jwt")).isNull();
+    }
+
+    @Test
+    void reusesKeyAndParserBuiltAtStartup() {
+        JwtParser parser = (JwtParser) ReflectionTestUtils.getField(jwtTokenizer, "jwtParser");
+
+        JwtParser resolved = ReflectionTestUtils.invokeMethod(jwtTokenizer, "resolveParser", base64EncodedSecretKey);
+
+        // 설정된 Key로 요청해도 Parser를 새로 만들지 않음
+        assertThat(resolved).isSameAs(parser);
+        assertThat(jwtTokenizer.encodedBase64SecretKey(SECRET_KEY)).isSameAs(base64EncodedSecretKey);
+    }
+
+    private String accessToken(Date expiration) {
+        return jwtTokenizer.generateAccessToken(
+                Map.of("username", "user@gmail.com", "roles", List.of("USER"), "userId", 1L),
+                "user@gmail.com", expiration, base64EncodedSecretKey);
+    }
+}
@@ -0,0 +1,116 @@
+package com.springboot.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private static final int THREADS = 32;
+    private static final int LOOKUPS_PER_THREAD = 5_000;
+    private static final int TOKENS = 50;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void verifiesEachTokenOnceUnderConcurrentLookups() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, 1_000);
+        ConcurrentHashMap<String, AtomicInteger> verifications = new ConcurrentHashMap<>();
+        Function<String, Claims> loader = token -> {
+            verifications.computeIfAbsent(token, key -> new AtomicInteger()).incrementAndGet();
+            return claims(token, new Date(System.currentTimeMillis() + 60_000));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+                    String token = "token-" + ((i + offset) % TOKENS);
+                    assertThat(cache.get(token, loader).getSubject()).isEqualTo(token);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 같은 토큰을 동시에 조회해도 검증은 토큰마다 한 번만 실행
+        assertThat(verifications).hasSize(TOKENS);
+        assertThat(verifications.values()).allMatch(count -> count.get() == 1);
+        assertThat(cache.getMissCount()).isEqualTo(TOKENS);
+        assertThat(cache.getHitCount()).isEqualTo((long) THREADS * LOOKUPS_PER_THREAD - TOKENS);
+
+        // hit/miss가 Micrometer에도 노출됨
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(cache.getHitCount());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(cache.getMissCount());
+    }
+
+    @Test
+    void evictsTokenWhenItsExpiryPasses() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, 1_000);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Claims> loader = token -> {
+            verifications.incrementAndGet();
+            // exp는 초 단위로 저장되므로 0.5 ~ 1.5초 後 만료
+            return claims(token, new Date(System.currentTimeMillis() + 1_500));
+        };
+
+        cache.get("short-lived", loader);
+        cache.get("short-lived", loader);
+        assertThat(verifications).hasValue(1);
+
+        Thread.sleep(1_600);
+
+        // exp가 지난 토큰은 캐시에서 제거되어 다시 검증 (parser가 만료로 거절)
+        cache.get("short-lived", loader);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheInvalidTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, 1_000);
+        AtomicInteger verifications = new AtomicInteger();
+
+        assertThat(cache.get("invalid", token -> {
+            verifications.incrementAndGet();
+            return null;
+        })).isNull();
+        cache.get("invalid", token -> {
+            verifications.incrementAndGet();
+            return null;
+        });
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Claims claims(String subject, Date expiration) {
+        Claims claims = Jwts.claims();
+        claims.setSubject(subject);
+        claims.setExpiration(expiration);
+        return claims;
+    }
+}
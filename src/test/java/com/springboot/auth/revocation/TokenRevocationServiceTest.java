@@ -0,0 +1,136 @@
+package com.springboot.auth.revocation;
+
+import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.jwt.VerifiedTokenCache;
+import com.springboot.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationServiceTest {
+    private static final String SECRET_KEY = "test-secret-key-test-secret-key-test-secret-key-0123";
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private JwtTokenizer jwtTokenizer;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = EmbeddedRedis.connectionFactory();
+        EmbeddedRedis.flushAll(connectionFactory);
+        redisTemplate = EmbeddedRedis.redisTemplate(connectionFactory);
+        jwtTokenizer = jwtTokenizer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void revokedTokenIsRejectedOnEveryNode() throws Exception {
+        TokenRevocationService nodeA = node();
+        TokenRevocationService nodeB = node();
+        String token = accessToken();
+        String other = accessToken();
+
+        nodeA.revoke(token);
+
+        assertThat(nodeA.isRevoked(jwtTokenizer.parseValidClaims(token), token)).isTrue();
+        assertThat(nodeA.isRevoked(jwtTokenizer.parseValidClaims(other), other)).isFalse();
+
+        // 폐기 ID는 토큰 만료 시간만큼만 Redis에 남음
+        String tokenId = jwtTokenizer.parseValidClaims(token).getId();
+        Long ttlSeconds = redisTemplate.getExpire("revoked-token:" + tokenId, TimeUnit.SECONDS);
+        assertThat(ttlSeconds).isBetween(1L, 600L);
+
+        // 다른 서버는 pub/sub으로 받은 ID를 Bloom Filter에 추가
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!nodeB.isRevoked(jwtTokenizer.parseValidClaims(token), token) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(nodeB.isRevoked(jwtTokenizer.parseValidClaims(token), token)).isTrue();
+        assertThat(nodeB.isRevoked(jwtTokenizer.parseValidClaims(other), other)).isFalse();
+    }
+
+    @Test
+    void rebuildPicksUpRevocationsFromRedis() {
+        TokenRevocationService nodeA = node();
+        String token = accessToken();
+        nodeA.revoke(token);
+
+        // 나중에 뜬 서버도 기동 時 Redis에서 Bloom Filter를 만듦
+        TokenRevocationService lateNode = node();
+
+        assertThat(lateNode.isRevoked(jwtTokenizer.parseValidClaims(token), token)).isTrue();
+    }
+
+    @Test
+    void revocationsDuringRebuildAreNotLost() throws Exception {
+        TokenRevocationService service = node();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            tokens.add(accessToken());
+        }
+
+        AtomicBoolean revoking = new AtomicBoolean(true);
+        CompletableFuture<Void> rebuilder = CompletableFuture.runAsync(() -> {
+            while (revoking.get()) {
+                service.rebuildBloomFilter();
+            }
+        });
+        for (String token : tokens) {
+            service.revoke(token);
+        }
+        revoking.set(false);
+        rebuilder.get(30, TimeUnit.SECONDS);
+
+        // 재생성과 겹쳐서 폐기된 토큰도 모두 Bloom Filter에 남아 있어야 함
+        for (String token : tokens) {
+            assertThat(service.isRevoked(jwtTokenizer.parseValidClaims(token), token)).isTrue();
+        }
+    }
+
+    private TokenRevocationService node() {
+        RedisMessageListenerContainer container = EmbeddedRedis.listenerContainer(connectionFactory);
+        containers.add(container);
+
+        TokenRevocationService service = new TokenRevocationService(redisTemplate, container, jwtTokenizer,
+                new VerifiedTokenCache(new SimpleMeterRegistry(), 1_000), 10_000, 0.01);
+        service.init();
+        return service;
+    }
+
+    private JwtTokenizer jwtTokenizer() {
+        JwtTokenizer tokenizer = new JwtTokenizer(new VerifiedTokenCache(new SimpleMeterRegistry(), 1_000));
+        ReflectionTestUtils.setField(tokenizer, "secretKey", SECRET_KEY);
+        tokenizer.init();
+        return tokenizer;
+    }
+
+    private String accessToken() {
+        return jwtTokenizer.generateAccessToken(
+                Map.of("username", "user@gmail.com", "roles", List.of("USER"), "userId", 1L),
+                "user@gmail.com",
+                jwtTokenizer.getTokenExpiration(10),
+                jwtTokenizer.encodedBase64SecretKey(SECRET_KEY));
+    }
+}
@@ -0,0 +1,67 @@
+package com.springboot.bulkexport.controller;
+
+import com.springboot.support.IntegrationTest;
+import com.springboot.user.entity.User;
+import com.springboot.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 인증은 제외하고 Context의 Controller만 MockMvc로 호출
+class BulkExportControllerTest extends IntegrationTest {
+    // application.yml의 bulk-export.timeout-ms
+    private static final long EXPORT_TIMEOUT_MS = 3_600_000;
+
+    @Autowired
+    private BulkExportController bulkExportController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(bulkExportController).build();
+    }
+
+    @Test
+    void exportIsWrittenAsynchronouslyWithItsOwnTimeout() throws Exception {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@gmail.com");
+        user.setName("user, exported");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        userRepository.save(user);
+
+        MvcResult result = mockMvc.perform(get("/v1/admin/export/users").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // spring.mvc.async.request-timeout(전체 비동기 요청 기본값)이 아닌 내보내기 전용 시간 제한
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(EXPORT_TIMEOUT_MS);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\""));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(lines[0]).isEqualTo("userId,email,name,userStatus,createdAt");
+        assertThat(lines).anyMatch(line -> line.contains(user.getEmail() + ",\"user, exported\",USER_ACTIVE"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.bulkexport.service;
+
+import com.springboot.SpringStartApplication;
+import com.springboot.support.EmbeddedRedis;
+import com.springboot.user.entity.User;
+import com.springboot.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkExporterTest {
+    private static final int ROWS = 1_000_000;
+    private static final String SMALL_HEAP = "-Xmx128m";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void millionQuestionsAreExportedOnSmallHeap() throws Exception {
+        // 애플리케이션 Context와 DB Cache를 빼면 질문 100만 건(DTO 기준 수백 MB)보다 훨씬 작은 Heap의 별도 JVM에서 내보냄
+        // (결과를 메모리에 모으거나 영속성 컨텍스트에 쌓으면 OutOfMemoryError)
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                SMALL_HEAP,
+                "-cp", System.getProperty("java.class.path"),
+                LargeExport.class.getName(), root.toString(), String.valueOf(ROWS))
+                .redirectErrorStream(true)
+                .redirectOutput(root.resolve("export.log").toFile())
+                .start();
+
+        assertThat(process.waitFor(5, TimeUnit.MINUTES)).isTrue();
+        assertThat(process.exitValue())
+                .as(Files.readString(root.resolve("export.log")))
+                .isZero();
+    }
+
+    // 작은 Heap의 JVM에서 실행하는 내보내기 (DB는 Heap 밖에 두기 위해 파일 H2 사용)
+    static class LargeExport {
+        private static final int INSERT_SIZE = 50_000;
+
+        public static void main(String[] args) {
+            // 실패해도 Redis 등의 Thread가 남아 JVM이 끝나지 않으므로 결과와 상관없이 종료
+            int status = 1;
+            try {
+                export(Paths.get(args[0]), Integer.parseInt(args[1]));
+                status = 0;
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+            System.exit(status);
+        }
+
+        private static void export(Path root, int rows) throws IOException {
+            // application.yml보다 우선하도록 Command Line 인자로 전달
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringStartApplication.class)
+                    .profiles("test")
+                    .run("--server.port=0",
+                            "--spring.datasource.url=jdbc:h2:file:" + root.resolve("export") + ";CACHE_SIZE=8192",
+                            "--spring.sql.init.mode=never",
+                            "--spring.data.redis.host=127.0.0.1",
+                            "--spring.data.redis.port=" + EmbeddedRedis.start());
+
+            try {
+                User user = new User();
+                user.setEmail("export@gmail.com");
+                user.setName("user");
+                user.setPassword("password");
+                user.setRoles(List.of("USER"));
+                Long userId = context.getBean(UserRepository.class).save(user).getUserId();
+
+                // 한 트랜잭션에 모두 넣으면 H2의 Undo Log가 Heap을 넘으므로 나눠서 저장
+                JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                for (int first = 1; first <= rows; first += INSERT_SIZE) {
+                    jdbcTemplate.update("INSERT INTO QUESTION (QUESTION_ID, TITLE, QUESTION_CONTEXT, " +
+                                    "VIEW_COUNT, LIKE_COUNT, QUESTION_STATUS, QUESTION_VISIBILITY, USER_ID, CREATED_AT) " +
+                                    "SELECT X, 'title ' || X, REPEAT('context ', 20), 0, 0, 'QUESTION_REGISTERED', 'QUESTION_PUBLIC', ?, " +
+                                    "CURRENT_TIMESTAMP FROM SYSTEM_RANGE(?, ?)",
+                            userId, first, Math.min(rows, first + INSERT_SIZE - 1));
+                }
+
+                LineCounter out = new LineCounter();
+                context.getBean(BulkExporter.class).exportQuestions(ExportFormat.NDJSON).writeTo(out);
+
+                if (out.lines != rows) {
+                    throw new IllegalStateException("Exported " + out.lines + " of " + rows + " rows");
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    // 응답 대신 줄 수만 세고 내용은 버리는 OutputStream
+    private static class LineCounter extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
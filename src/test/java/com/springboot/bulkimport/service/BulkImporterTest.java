@@ -0,0 +1,172 @@
+package com.springboot.bulkimport.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.support.IntegrationTest;
+import com.springboot.user.entity.User;
+import com.springboot.user.repository.UserRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkImporterTest extends IntegrationTest {
+    // bulk-import.chunk-size 기본값 500 → chunk 3개
+    private static final int QUESTIONS = 1_200;
+    private static final int UNKNOWN_USER_LINE = 600;
+
+    @Autowired
+    private BulkImporter bulkImporter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void csvRowsAreValidatedAndOnlyValidUsersAreImported() throws IOException {
+        String prefix = UUID.randomUUID().toString();
+        String csv = "email,name,password\n" +
+                prefix + "-1@gmail.com,user1,password\n" +
+                prefix + "-2@gmail.com,,password\n" +
+                prefix + "-1@gmail.com,user1,password\n" +
+                prefix + "-3@gmail.com,user3\n" +
+                "\"" + prefix + "-4@gmail.com\",\"user, 4\",password\n";
+
+        List<JsonNode> report = importUsers(csv, ImportFormat.CSV);
+
+        assertThat(errorLines(report)).containsExactly(3L, 5L, 4L);
+        assertThat(last(report).get("type").asText()).isEqualTo("summary");
+        assertThat(last(report).get("processed").asLong()).isEqualTo(5);
+        assertThat(last(report).get("imported").asLong()).isEqualTo(2);
+        assertThat(last(report).get("failed").asLong()).isEqualTo(3);
+
+        assertThat(userRepository.findByEmail(prefix + "-1@gmail.com")).isPresent();
+        assertThat(userRepository.findByEmail(prefix + "-3@gmail.com")).isEmpty();
+        User user = userRepository.findByEmail(prefix + "-4@gmail.com").orElseThrow();
+        assertThat(user.getName()).isEqualTo("user, 4");
+        // 비밀번호는 암호화해서 저장
+        assertThat(user.getPassword()).isNotEqualTo("password");
+    }
+
+    @Test
+    void alreadyRegisteredEmailAndMalformedJsonAreReportedPerLine() throws IOException {
+        String prefix = UUID.randomUUID().toString();
+        importUsers(userJson(prefix + "-1@gmail.com"), ImportFormat.NDJSON);
+
+        String ndjson = userJson(prefix + "-1@gmail.com") +
+                "{\"email\": \n" +
+                userJson(prefix + "-2@gmail.com");
+        List<JsonNode> report = importUsers(ndjson, ImportFormat.NDJSON);
+
+        assertThat(errorLines(report)).containsExactly(2L, 1L);
+        assertThat(last(report).get("imported").asLong()).isEqualTo(1);
+        assertThat(userRepository.findByEmail(prefix + "-2@gmail.com")).isPresent();
+    }
+
+    // Open Session In View처럼 요청 동안 EntityManager 하나를 묶어 둔 상태에서 여러 chunk를 등록
+    @Test
+    void importedQuestionsDoNotAccumulateInTheRequestPersistenceContext() throws IOException {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@gmail.com");
+        user.setName("user");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        Long userId = userRepository.save(user).getUserId();
+
+        String title = UUID.randomUUID().toString();
+        StringBuilder ndjson = new StringBuilder();
+        for (int line = 1; line <= QUESTIONS; line++) {
+            long questionUserId = line == UNKNOWN_USER_LINE ? Long.MAX_VALUE : userId;
+            ndjson.append("{\"userId\": ").append(questionUserId)
+                    .append(", \"title\": \"").append(title)
+                    .append("\", \"questionContext\": \"context ").append(line).append("\"}\n");
+        }
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        List<JsonNode> report;
+        try {
+            report = read(out -> bulkImporter.importQuestions(reader(ndjson.toString()), ImportFormat.NDJSON, out));
+
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        assertThat(errorLines(report)).containsExactly((long) UNKNOWN_USER_LINE);
+        assertThat(report.stream().filter(node -> node.get("type").asText().equals("progress"))).hasSize(3);
+        assertThat(last(report).get("imported").asLong()).isEqualTo(QUESTIONS - 1);
+        assertThat(countQuestions(title)).isEqualTo(QUESTIONS - 1);
+    }
+
+    private List<JsonNode> importUsers(String body, ImportFormat format) throws IOException {
+        return read(out -> bulkImporter.importUsers(reader(body), format, out));
+    }
+
+    private List<JsonNode> read(ImportCall call) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        call.run(out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private List<Long> errorLines(List<JsonNode> report) {
+        return report.stream()
+                .filter(node -> node.get("type").asText().equals("error"))
+                .map(node -> node.get("line").asLong())
+                .collect(Collectors.toList());
+    }
+
+    private JsonNode last(List<JsonNode> report) {
+        return report.get(report.size() - 1);
+    }
+
+    private long countQuestions(String title) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT COUNT(q) FROM Question q WHERE q.title = :title", Long.class)
+                    .setParameter("title", title)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private String userJson(String email) {
+        return "{\"email\": \"" + email + "\", \"name\": \"user\", \"password\": \"password\"}\n";
+    }
+
+    private BufferedReader reader(String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+
+    @FunctionalInterface
+    private interface ImportCall {
+        void run(ByteArrayOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,165 @@
+package com.springboot.config;
+
+import com.springboot.auth.utils.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Primary, Replica를 각각 다른 In-memory H2 DB로 두고, 어느 DB에서 읽었는지 marker 테이블의 값으로 확인
+class ReplicationRoutingDataSourceTest {
+    private DataSource primary;
+    private DataSource replica;
+    private boolean replicaDown;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = new DelegatingDataSource(database("replica")) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown) {
+                    throw new SQLException("replica down");
+                }
+                return super.getConnection();
+            }
+        };
+        new JdbcTemplate(primary).execute("CREATE TABLE marker (name VARCHAR(20)); INSERT INTO marker VALUES ('primary')");
+
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicationRoutingDataSource(List.of(ReplicationRoutingDataSource.replicaKey(0)),
+                new ReadYourWritesTracker(Duration.ofMinutes(1), 1000), meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                ReplicationRoutingDataSource.replicaKey(0), replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new CustomUserDetails(1L, "user@gmail.com"), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readsGoToReplicaOnlyAfterItPassesTheSchemaCheck() {
+        createReplicaSchema();
+
+        // 확인 전에는 Primary에서 읽음
+        assertThat(read()).isEqualTo("primary");
+
+        routingDataSource.checkReplicas();
+
+        assertThat(read()).isEqualTo("replica");
+        String written = writeTransaction.execute(status -> selectMarker());
+        assertThat(written).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.replicas.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void replicaWithoutSchemaIsNotUsed() {
+        routingDataSource.checkReplicas();
+
+        assertThat(read()).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.fallback").counter().count()).isEqualTo(1);
+
+        // 복제가 끝나 테이블이 생기면 다음 확인부터 사용
+        createReplicaSchema();
+        routingDataSource.checkReplicas();
+
+        assertThat(read()).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimaryUntilNextCheck() {
+        createReplicaSchema();
+        routingDataSource.checkReplicas();
+        replicaDown = true;
+
+        assertThat(read()).isEqualTo("primary");
+        assertThat(read()).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.fallback").counter().count()).isEqualTo(2);
+
+        replicaDown = false;
+        routingDataSource.checkReplicas();
+
+        assertThat(read()).isEqualTo("replica");
+    }
+
+    @Test
+    void onlyCommittedWritesPinTheUserToPrimary() {
+        createReplicaSchema();
+        routingDataSource.checkReplicas();
+
+        // 쓰기 트랜잭션이라도 조회만 했다면 고정하지 않음
+        writeTransaction.execute(status -> selectMarker());
+        assertThat(read()).isEqualTo("replica");
+
+        // 롤백 된 쓰기는 고정하지 않음
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET name = 'rolled back'");
+            status.setRollbackOnly();
+        });
+        assertThat(read()).isEqualTo("replica");
+
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO marker VALUES ('written')"));
+        List<String> names = readTransaction.execute(status ->
+                jdbcTemplate.queryForList("SELECT name FROM marker", String.class));
+        assertThat(names).containsExactlyInAnyOrder("primary", "written");
+        assertThat(meterRegistry.get("datasource.routing.pinned").counter().count()).isEqualTo(1);
+
+        // 다른 사용자는 계속 Replica에서 읽음
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new CustomUserDetails(2L, "other@gmail.com"), null, List.of()));
+        assertThat(read()).isEqualTo("replica");
+    }
+
+    private String read() {
+        return readTransaction.execute(status -> selectMarker());
+    }
+
+    private String selectMarker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker FETCH FIRST 1 ROWS ONLY", String.class);
+    }
+
+    private void createReplicaSchema() {
+        new JdbcTemplate(replica).execute("CREATE TABLE marker (name VARCHAR(20)); INSERT INTO marker VALUES ('replica')");
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    }
+}
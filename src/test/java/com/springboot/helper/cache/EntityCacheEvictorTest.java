@@ -0,0 +1,106 @@
+package com.springboot.helper.cache;
+
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.support.IntegrationTest;
+import com.springboot.user.entity.User;
+import com.springboot.user.repository.UserRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheEvictorTest extends IntegrationTest {
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SessionFactory sessionFactory;
+    private Cache cache;
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        cache = sessionFactory.getCache();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@gmail.com");
+        user.setName("user");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        userRepository.save(user);
+
+        question = new Question();
+        question.setTitle("title");
+        question.setQuestionContext("context");
+        question.setUser(user);
+        questionRepository.save(question);
+
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void questionIsNotCachedAndCounterUpdatesKeepOtherRegions() {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(user.getUserId()).orElseThrow().getRoles().size();
+            questionRepository.findById(question.getQuestionId()).orElseThrow();
+        });
+
+        assertThat(cache.containsEntity(User.class, user.getUserId())).isTrue();
+        assertThat(cache.containsEntity(Question.class, question.getQuestionId())).isFalse();
+
+        // 조회수, 좋아요 수 일괄 UPDATE가 다른 region(User 등)을 비우지 않음
+        transactionTemplate.executeWithoutResult(status -> {
+            questionRepository.increaseViewCount(question.getQuestionId(), 3);
+            questionRepository.addLikeCount(question.getQuestionId(), 1);
+        });
+
+        assertThat(cache.containsEntity(User.class, user.getUserId())).isTrue();
+    }
+
+    @Test
+    void evictUserRemovesUserAndRolesAfterCommitOnly() {
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getUserId()).orElseThrow().getRoles().size());
+        assertThat(cache.containsCollection(User.class.getName() + ".roles", user.getUserId())).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityCacheEvictor.evictUser(user);
+
+            // 커밋 전에는 그대로 남아 있음
+            assertThat(cache.containsEntity(User.class, user.getUserId())).isTrue();
+        });
+
+        assertThat(cache.containsEntity(User.class, user.getUserId())).isFalse();
+        assertThat(cache.containsCollection(User.class.getName() + ".roles", user.getUserId())).isFalse();
+    }
+
+    @Test
+    void statisticsAreOnlyCollectedInMetricsProfile() {
+        assertThat(sessionFactory.getStatistics().isStatisticsEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,122 @@
+package com.springboot.helper.email;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailDeliveryQueueTest {
+    private final RecordingEmailSendable sendable = new RecordingEmailSendable();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    private EmailDeliveryQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sendable.release.countDown();
+        queue.shutdown();
+    }
+
+    @Test
+    void onlyFailedMessagesAreRetriedAndFailed() throws InterruptedException {
+        sendable.badMessages.add("bad");
+        queue = queue(10, 10, 3);
+
+        CountDownLatch failures = new CountDownLatch(1);
+        for (String message : List.of("a", "bad", "b")) {
+            queue.enqueue(message, () -> {
+                failed.add(message);
+                failures.countDown();
+            });
+        }
+        sendable.release.countDown();
+
+        assertThat(failures.await(5, TimeUnit.SECONDS)).isTrue();
+        // 성공한 메일은 한 번만 전송 (중복 전송 없음), 실패한 메일만 최대 시도 횟수까지 다시 전송
+        assertThat(sendable.attempts).containsEntry("a", 1).containsEntry("b", 1).containsEntry("bad", 3);
+        assertThat(failed).containsExactly("bad");
+        assertThat(meterRegistry.get("email.delivery.latency").tag("outcome", "success").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void fullQueueRejectsToCallerWithoutRunningFailure() throws InterruptedException {
+        queue = queue(1, 1, 3);
+
+        // Worker가 첫 메일을 전송하는 동안 대기열(크기 1)을 채움
+        assertThat(queue.enqueue("first", () -> failed.add("first"))).isTrue();
+        assertThat(sendable.started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.enqueue("second", () -> failed.add("second"))).isTrue();
+
+        assertThat(queue.enqueue("third", () -> failed.add("third"))).isFalse();
+        assertThat(failed).isEmpty();
+        assertThat(meterRegistry.get("email.delivery.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shutdownDrainsQueuedEmails() throws InterruptedException {
+        queue = queue(100, 1, 3);
+        for (int i = 0; i < 20; i++) {
+            String message = "message-" + i;
+            queue.enqueue(message, () -> failed.add(message));
+        }
+        assertThat(sendable.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 종료가 시작된 후에 전송이 풀려도 대기열에 남은 메일까지 모두 전송
+        new Thread(() -> {
+            sleep(300);
+            sendable.release.countDown();
+        }).start();
+        queue.shutdown();
+
+        assertThat(sendable.attempts).hasSize(20).allSatisfy((message, attempts) -> assertThat(attempts).isEqualTo(1));
+        assertThat(failed).isEmpty();
+        assertThat(queue.enqueue("late", () -> failed.add("late"))).isFalse();
+        assertThat(failed).isEmpty();
+    }
+
+    private EmailDeliveryQueue queue(int capacity, int batchSize, int maxAttempts) {
+        return new EmailDeliveryQueue(new EmailSender(sendable), meterRegistry,
+                capacity, 1, batchSize, maxAttempts, 10, 5000);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 메일별 전송 횟수를 기록하고, badMessages는 항상 실패시키는 EmailSendable
+    // release가 열릴 때까지 전송을 멈춰 둠
+    private static class RecordingEmailSendable implements EmailSendable {
+        private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+        private final Set<String> badMessages = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(String message) {
+            attempts.merge(message, 1, Integer::sum);
+            if (badMessages.contains(message)) {
+                throw new IllegalStateException("rejected: " + message);
+            }
+        }
+
+        @Override
+        public Set<Integer> sendAll(List<String> messages) throws InterruptedException {
+            started.countDown();
+            release.await();
+            return EmailSendable.super.sendAll(messages);
+        }
+    }
+}
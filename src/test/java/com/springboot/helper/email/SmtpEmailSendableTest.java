@@ -0,0 +1,77 @@
+package com.springboot.helper.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GreenMail로 띄운 SMTP 서버에 실제로 전송
+class SmtpEmailSendableTest {
+    private static final String ADMIN = "admin@gmail.com";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void sendsBatchToSmtpServer() throws Exception {
+        SmtpEmailSendable sendable = new SmtpEmailSendable(mailSender(ServerSetupTest.SMTP.getPort()),
+                "no-reply@gmail.com", ADMIN);
+
+        Set<Integer> failed = sendable.sendAll(List.of("first", "second", "third"));
+
+        assertThat(failed).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessagesForDomain(ADMIN);
+        assertThat(received).hasSize(3);
+        assertThat(received).extracting(message -> GreenMailUtil.getBody(message).trim())
+                .containsExactlyInAnyOrder("first", "second", "third");
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo(ADMIN);
+    }
+
+    @Test
+    void unreachableServerFailsEveryMessage() {
+        // 서버에 연결하지 못하면 모든 메일이 실패 (Queue에서 전부 다시 시도)
+        SmtpEmailSendable sendable = new SmtpEmailSendable(mailSender(1), "no-reply@gmail.com", ADMIN);
+
+        assertThat(sendable.sendAll(List.of("first", "second"))).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void deliveryQueueSendsEachEmailOnce() throws Exception {
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        EmailDeliveryQueue queue = new EmailDeliveryQueue(
+                new EmailSender(new SmtpEmailSendable(mailSender(ServerSetupTest.SMTP.getPort()), "no-reply@gmail.com", ADMIN)),
+                new SimpleMeterRegistry(), 100, 2, 10, 3, 10, 10_000);
+        List<String> messages = IntStream.range(0, 30)
+                .mapToObj(i -> "message-" + i)
+                .collect(Collectors.toList());
+
+        messages.forEach(message -> queue.enqueue(message, () -> failed.add(message)));
+        queue.shutdown();
+
+        List<String> bodies = List.of(greenMail.getReceivedMessages()).stream()
+                .map(message -> GreenMailUtil.getBody(message).trim())
+                .collect(Collectors.toList());
+        assertThat(bodies).containsExactlyInAnyOrderElementsOf(messages);
+        assertThat(failed).isEmpty();
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return mailSender;
+    }
+}
@@ -0,0 +1,103 @@
+package com.springboot.like.repository;
+
+import com.springboot.like.entity.Like;
+import com.springboot.question.entity.Question;
+import com.springboot.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"spring.sql.init.mode=never", "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class LikeRepositoryTest {
+    private static final int ROWS = 100_000;
+    private static final int USERS = 100;
+    private static final int FLUSH_SIZE = 10_000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findByUserAndQuestionUsesUniqueConstraintIndex() {
+        assertThat(explain("SELECT * FROM likes WHERE user_id = 1 AND question_id = 2"))
+                .contains("UK_LIKES_USER_QUESTION")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void findByQuestionUsesForeignKeyIndex() {
+        assertThat(explain("SELECT * FROM likes WHERE question_id = 2"))
+                .containsPattern("/\\* PUBLIC\\.FK\\w+: QUESTION_ID =")
+                .doesNotContain("tableScan");
+    }
+
+    // 질문 10만 건, 좋아요 10만 건 저장 (SEQUENCE ID는 50개씩 미리 받고, INSERT는 batch_size만큼 묶어서 전송)
+    // IDENTITY ID였다면 INSERT마다 Statement를 실행해야 하므로 20만 번 (실행 시간 비교는 BatchInsertBenchmark)
+    @Test
+    void hundredThousandQuestionsAndLikesAreInsertedInBatches() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(entityManager.persist(user(i)));
+        }
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Long> questionIds = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Question question = new Question();
+            question.setTitle("title" + i);
+            question.setQuestionContext("context");
+            question.setUser(users.get(i % USERS));
+            questionIds.add(entityManager.persist(question).getQuestionId());
+            flushEvery(i);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            Like like = new Like();
+            like.setUser(users.get(i % USERS));
+            like.setQuestion(entityManager.getEntityManager().getReference(Question.class, questionIds.get(i)));
+            entityManager.persist(like);
+            flushEvery(i);
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ROWS);
+        // 시퀀스 조회 50건당 1번 + flush마다 테이블별 batch INSERT Statement 1개
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * ROWS / 50 + 2L * ROWS / FLUSH_SIZE + 10);
+        assertThat(count("SELECT COUNT(*) FROM likes")).isEqualTo(ROWS);
+    }
+
+    // 회원은 영속 상태로 두어야 Question.setUser가 회원의 질문 목록을 다시 조회하지 않음
+    private void flushEvery(int index) {
+        if ((index + 1) % FLUSH_SIZE == 0) {
+            entityManager.flush();
+        }
+    }
+
+    private long count(String sql) {
+        return ((Number) entityManager.getEntityManager().createNativeQuery(sql).getSingleResult()).longValue();
+    }
+
+    private String explain(String sql) {
+        return entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult().toString();
+    }
+
+    private static User user(int index) {
+        User user = new User();
+        user.setEmail("user" + index + "@gmail.com");
+        user.setName("user");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        return user;
+    }
+}
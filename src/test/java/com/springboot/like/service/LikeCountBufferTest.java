@@ -0,0 +1,176 @@
+package com.springboot.like.service;
+
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.utils.PendingCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class LikeCountBufferTest {
+    private final Map<Long, Long> savedDeltas = new ConcurrentHashMap<>();
+    private QuestionRepository questionRepository;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository = mock(QuestionRepository.class);
+        when(questionRepository.addLikeCount(anyLong(), anyInt())).thenAnswer(invocation -> {
+            savedDeltas.merge(invocation.getArgument(0), (long) (int) invocation.getArgument(1), Long::sum);
+            return 1;
+        });
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void flushesPendingDeltasWhenContextShutsDown() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(LikeCountBuffer.class, () -> buffer(1_000));
+        context.refresh();
+        LikeCountBuffer buffer = context.getBean(LikeCountBuffer.class);
+
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+        verifyNoInteractions(questionRepository);
+
+        // 종료 時 (@PreDestroy) 주기를 기다리지 않고 남은 변경분을 반영
+        context.close();
+
+        assertThat(savedDeltas).containsOnly(Map.entry(1L, 3L), Map.entry(2L, -1L));
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+    }
+
+    @Test
+    void shutdownFlushFailureDoesNotBreakShutdown() {
+        doThrow(new IllegalStateException("db down")).when(questionRepository).addLikeCount(anyLong(), anyInt());
+        LikeCountBuffer buffer = buffer(1_000);
+        buffer.add(1L, 1);
+
+        buffer.flushOnShutdown();
+
+        // 반영하지 못한 변경분은 버리지 않고 남겨둠
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void recordsDeltaOnlyAfterCommit() {
+        LikeCountBuffer buffer = buffer(1_000);
+
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.add(1L, 1);
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.add(1L, 1);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void flushesImmediatelyWhenThresholdIsReached() {
+        LikeCountBuffer buffer = buffer(5);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.add(7L, 1);
+        }
+
+        assertThat(savedDeltas).containsOnly(Map.entry(7L, 5L));
+    }
+
+    @Test
+    void dropsQuestionsWithoutPendingDeltasAfterFlush() {
+        LikeCountBuffer buffer = buffer(1_000_000);
+        for (long questionId = 0; questionId < 1_000; questionId++) {
+            buffer.add(questionId, 1);
+        }
+
+        buffer.flush();
+        buffer.flush();
+
+        assertThat(((PendingCounters<?>) ReflectionTestUtils.getField(buffer, "pendingDeltas")).size()).isZero();
+    }
+
+    @Test
+    void keepsCountsExactWhileFlushingConcurrently() throws Exception {
+        LikeCountBuffer buffer = buffer(500);
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean liking = new AtomicBoolean(true);
+
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (liking.get()) {
+                buffer.flush();
+            }
+            return null;
+        });
+        List<Future<?>> likers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            likers.add(executor.submit(() -> {
+                start.await();
+                // 좋아요 3번, 취소 1번 반복
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.add((long) (i % 4), i % 4 == 3 ? -1 : 1);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> liker : likers) {
+            liker.get(60, TimeUnit.SECONDS);
+        }
+        liking.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        buffer.flush();
+
+        assertThat(savedDeltas).containsOnly(
+                Map.entry(0L, 20_000L), Map.entry(1L, 20_000L), Map.entry(2L, 20_000L), Map.entry(3L, -20_000L));
+    }
+
+    private LikeCountBuffer buffer(long flushThreshold) {
+        return new LikeCountBuffer(questionRepository, mock(PlatformTransactionManager.class), true, flushThreshold);
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.springboot.like.service;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.like.repository.LikeRepository;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.support.IntegrationTest;
+import com.springboot.support.SqlStatementRecorder;
+import com.springboot.user.entity.User;
+import com.springboot.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LikeServiceConcurrencyTest extends IntegrationTest {
+    private static final int USERS = 40;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Question question;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(user()));
+        }
+
+        question = new Question();
+        question.setTitle("title");
+        question.setQuestionContext("context");
+        question.setUser(users.get(0));
+        question = questionRepository.save(question);
+    }
+
+    @Test
+    void concurrentLikesAndUnlikesKeepCountExact() throws Exception {
+        List<Callable<Object>> likes = new ArrayList<>();
+        for (User user : users) {
+            likes.add(() -> likeService.addLike(user.getUserId(), question.getQuestionId()));
+        }
+        assertThat(runConcurrently(likes)).allMatch(result -> !(result instanceof Throwable));
+
+        assertThat(likeCount()).isEqualTo(USERS);
+        assertThat(likeRepository.findByQuestion(question)).hasSize(USERS);
+
+        List<Callable<Object>> unlikes = new ArrayList<>();
+        for (User user : users) {
+            unlikes.add(() -> {
+                likeService.removeLike(user.getUserId(), question.getQuestionId());
+                return null;
+            });
+        }
+        assertThat(runConcurrently(unlikes)).allMatch(result -> !(result instanceof Throwable));
+
+        assertThat(likeCount()).isZero();
+        assertThat(likeRepository.findByQuestion(question)).isEmpty();
+    }
+
+    @Test
+    void sameUserLikingConcurrentlyIsCountedOnce() throws Exception {
+        User user = users.get(1);
+        List<Callable<Object>> likes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            likes.add(() -> likeService.addLike(user.getUserId(), question.getQuestionId()));
+        }
+
+        List<Object> results = runConcurrently(likes);
+
+        // Unique 제약조건으로 한 번만 저장되고, 나머지는 중복 좋아요로 거절
+        assertThat(results).filteredOn(result -> !(result instanceof Throwable)).hasSize(1);
+        assertThat(results).filteredOn(result -> result instanceof Throwable)
+                .allMatch(result -> result instanceof BusinessLogicException
+                        && ((BusinessLogicException) result).getExceptionCode() == ExceptionCode.LIKE_ALREADY_EXISTS);
+        assertThat(likeCount()).isEqualTo(1);
+
+        // 좋아요가 없는데 취소하면 404, 좋아요 수는 0 아래로 내려가지 않음
+        likeService.removeLike(user.getUserId(), question.getQuestionId());
+        assertThatThrownBy(() -> likeService.removeLike(user.getUserId(), question.getQuestionId()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.LIKE_NOT_FOUND);
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    void likeInsertIsSentAtCommitWithoutEarlyFlush() {
+        List<String> statements = SqlStatementRecorder.record(() ->
+                likeService.addLike(users.get(2).getUserId(), question.getQuestionId()));
+
+        // saveAndFlush를 쓰지 않으므로 INSERT는 좋아요 수 UPDATE 뒤, 커밋 時 전송됨
+        List<String> writes = statements.stream()
+                .map(sql -> sql.trim().toLowerCase())
+                .filter(sql -> sql.startsWith("insert") || sql.startsWith("update"))
+                .collect(Collectors.toList());
+        assertThat(writes).hasSize(2);
+        assertThat(writes.get(0)).startsWith("update question");
+        assertThat(writes.get(1)).startsWith("insert into likes");
+        assertThat(likeCount()).isEqualTo(1);
+
+        // 커밋 時 발생한 Unique 제약조건 위반도 중복 좋아요로 처리
+        assertThatThrownBy(() -> likeService.addLike(users.get(2).getUserId(), question.getQuestionId()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.LIKE_ALREADY_EXISTS);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void likingMissingQuestionIsNotFound() {
+        assertThatThrownBy(() -> likeService.addLike(users.get(0).getUserId(), Long.MAX_VALUE))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.QUESTION_NOT_FOUND);
+    }
+
+    private int likeCount() {
+        return questionRepository.findById(question.getQuestionId()).orElseThrow().getLikeCount();
+    }
+
+    // 모든 작업을 동시에 시작하고 결과(실패하면 예외)를 반환
+    private List<Object> runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        for (Callable<Object> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    return e;
+                }
+            }));
+        }
+        start.countDown();
+
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private User user() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@gmail.com");
+        user.setName("user");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        return user;
+    }
+}
@@ -0,0 +1,224 @@
+package com.springboot.outbox.service;
+
+import com.springboot.helper.email.EmailDeliveryQueue;
+import com.springboot.helper.event.UserRegistrationEventListener;
+import com.springboot.outbox.entity.OutboxEvent;
+import com.springboot.outbox.repository.OutboxEventRepository;
+import com.springboot.support.IntegrationTest;
+import com.springboot.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 서버 여러 대를 같은 DB를 보는 OutboxDispatcher 여러 개로 흉내 냄
+// (Context의 OutboxDispatcher는 기동 時 한 번만 실행되도록 주기를 늘리고,
+//  다른 테스트 Context의 OutboxDispatcher가 Event를 가져가지 않도록 별도의 In-memory DB 사용)
+@TestPropertySource(properties = {
+        "outbox.dispatch-interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:outbox-dispatcher-test"
+})
+class OutboxDispatcherTest extends IntegrationTest {
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void twoNodesDeliverEveryEventExactlyOnce() throws Exception {
+        List<Long> ids = saveEvents(1_000);
+        Map<Long, Integer> deliveries = new ConcurrentHashMap<>();
+        Map<String, Integer> deliveriesByNode = new ConcurrentHashMap<>();
+        // 두 서버가 각자 batch를 가져간 상태에서 동시에 전달하도록 첫 전달 時 서로를 기다림
+        CyclicBarrier bothClaimed = new CyclicBarrier(2);
+
+        ExecutorService nodes = Executors.newFixedThreadPool(2);
+        List<Future<?>> results = new ArrayList<>();
+        for (String node : List.of("node-1", "node-2")) {
+            OutboxDispatcher dispatcher = dispatcher(event -> {
+                if (deliveriesByNode.merge(node, 1, Integer::sum) == 1) {
+                    await(bothClaimed);
+                }
+                deliveries.merge(event.getAggregateId(), 1, Integer::sum);
+            }, 60_000);
+
+            results.add(nodes.submit(() -> {
+                while (countByStatus(OutboxEvent.OutboxStatus.PENDING) > 0) {
+                    dispatcher.dispatch();
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        nodes.shutdown();
+
+        assertThat(deliveries).containsOnlyKeys(ids).allSatisfy((id, count) -> assertThat(count).isEqualTo(1));
+        assertThat(deliveriesByNode).containsOnlyKeys("node-1", "node-2");
+        assertThat(countByStatus(OutboxEvent.OutboxStatus.DISPATCHED)).isEqualTo(ids.size());
+    }
+
+    @Test
+    void eventsOfStalledNodeAreRedeliveredAfterClaimTimeout() throws Exception {
+        List<Long> ids = saveEvents(3);
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        List<Long> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        // 첫 서버는 첫 Event를 전달하다 멈춤 (전달 완료로 표시하기 전에 죽은 것과 같음)
+        OutboxDispatcher stalledNode = dispatcher(event -> {
+            stalled.countDown();
+            awaitLatch(resume);
+        }, 2_000);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> stalledDispatch = executor.submit(stalledNode::dispatch);
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // claim이 만료되기 전에는 다른 서버가 가져가지 않음
+        OutboxDispatcher otherNode = dispatcher(event -> delivered.add(event.getAggregateId()), 2_000);
+        otherNode.dispatch();
+        assertThat(delivered).isEmpty();
+
+        Thread.sleep(2_500);
+        otherNode.dispatch();
+
+        assertThat(delivered).containsExactlyElementsOf(ids);
+        assertThat(countByStatus(OutboxEvent.OutboxStatus.DISPATCHED)).isEqualTo(3);
+
+        // 멈췄던 서버가 다시 진행해도 전달 완료 상태는 그대로 (중복 전달은 Subscriber가 처리)
+        resume.countDown();
+        stalledDispatch.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(countByStatus(OutboxEvent.OutboxStatus.DISPATCHED)).isEqualTo(3);
+    }
+
+    @Test
+    void failedEventIsRetriedBeforeLaterEvents() {
+        List<Long> ids = saveEvents(3);
+        List<Long> delivered = new ArrayList<>();
+        Map<Long, Integer> attempts = new ConcurrentHashMap<>();
+        OutboxDispatcher dispatcher = dispatcher(event -> {
+            // 두 번째 Event는 첫 전달에 실패
+            if (event.getAggregateId().equals(ids.get(1)) && attempts.merge(ids.get(1), 1, Integer::sum) == 1) {
+                throw new IllegalStateException("subscriber down");
+            }
+            delivered.add(event.getAggregateId());
+        }, 60_000);
+
+        dispatcher.dispatch();
+
+        assertThat(delivered).containsExactly(ids.get(0));
+        // 가져간 뒤의 Event는 claim이 풀려 바로 다시 가져갈 수 있음
+        assertThat(outboxEventRepository.findClaimableIds(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE))).hasSize(2);
+
+        dispatcher.dispatch();
+
+        assertThat(delivered).containsExactlyElementsOf(ids);
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getOutboxStatus()).isEqualTo(OutboxEvent.OutboxStatus.DISPATCHED))
+                .filteredOn(event -> event.getAggregateId().equals(ids.get(1)))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void rejectedRegistrationEmailIsRedeliveredWithoutDeletingUser() {
+        List<Long> ids = saveEvents(1);
+        EmailDeliveryQueue emailDeliveryQueue = mock(EmailDeliveryQueue.class);
+        UserService userService = mock(UserService.class);
+        when(emailDeliveryQueue.enqueue(anyString(), any())).thenReturn(false, true);
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxEventRepository,
+                List.of(new UserRegistrationEventListener(emailDeliveryQueue, userService)),
+                transactionManager, new SimpleMeterRegistry(), BATCH_SIZE, 3, 24, 60_000);
+
+        // 대기열이 가득 차면 전달 실패로 남겨두고 다음 주기에 다시 전달
+        dispatcher.dispatch();
+        assertThat(countByStatus(OutboxEvent.OutboxStatus.PENDING)).isEqualTo(1);
+
+        dispatcher.dispatch();
+        assertThat(countByStatus(OutboxEvent.OutboxStatus.DISPATCHED)).isEqualTo(1);
+        verify(emailDeliveryQueue, times(2)).enqueue(anyString(), any());
+        verify(userService, never()).deleteUser(ids.get(0));
+    }
+
+    private OutboxDispatcher dispatcher(Consumer<OutboxEvent> handler, long claimTimeoutMillis) {
+        OutboxSubscriber subscriber = new OutboxSubscriber() {
+            @Override
+            public boolean supports(OutboxEvent.EventType eventType) {
+                return true;
+            }
+
+            @Override
+            public void handle(OutboxEvent event) {
+                handler.accept(event);
+            }
+        };
+        return new OutboxDispatcher(outboxEventRepository, List.of(subscriber), transactionManager,
+                new SimpleMeterRegistry(), BATCH_SIZE, 3, 24, claimTimeoutMillis);
+    }
+
+    // aggregateId를 Event 순번으로 사용
+    private List<Long> saveEvents(int count) {
+        List<Long> ids = IntStream.rangeClosed(1, count)
+                .mapToObj(Long::valueOf)
+                .collect(Collectors.toList());
+        outboxEventRepository.saveAll(ids.stream()
+                .map(id -> new OutboxEvent(OutboxEvent.EventType.USER_REGISTERED, id, null))
+                .collect(Collectors.toList()));
+        return ids;
+    }
+
+    private long countByStatus(OutboxEvent.OutboxStatus status) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getOutboxStatus() == status)
+                .count();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.springboot.question.repository;
+
+import com.springboot.exception.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuestionFeedCursorTest {
+
+    @Test
+    void samePositionHasSameCacheKeyWhateverTheClientSent() {
+        QuestionFeedCursor cursor = QuestionFeedCursor.decode(encode("7|15"), QuestionFeedSort.LIKES_DESC);
+        QuestionFeedCursor padded = QuestionFeedCursor.decode(encode("+0000007|15"), QuestionFeedSort.LIKES_DESC);
+
+        assertThat(padded.cacheKey(QuestionFeedSort.LIKES_DESC)).isEqualTo(cursor.cacheKey(QuestionFeedSort.LIKES_DESC));
+        assertThat(cursor.cacheKey(QuestionFeedSort.LIKES_DESC)).isEqualTo("7|15");
+    }
+
+    @Test
+    void cursorThatDoesNotMatchTheSortIsRejected() {
+        assertThatThrownBy(() -> QuestionFeedCursor.decode(encode("x".repeat(10_000) + "|1"), QuestionFeedSort.LATEST))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
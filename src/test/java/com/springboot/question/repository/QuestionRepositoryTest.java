@@ -0,0 +1,206 @@
+package com.springboot.question.repository;
+
+import com.springboot.answer.entity.Answer;
+import com.springboot.question.dto.QuestionResponseDto;
+import com.springboot.question.entity.Question;
+import com.springboot.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"spring.sql.init.mode=never", "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class QuestionRepositoryTest {
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("user@gmail.com");
+        user.setName("user");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        entityManager.persist(user);
+    }
+
+    @Test
+    void increaseViewCountAddsDeltaInOneUpdate() {
+        Question question = question("title");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(questionRepository.increaseViewCount(question.getQuestionId(), 3)).isEqualTo(1);
+        assertThat(questionRepository.increaseViewCount(question.getQuestionId(), 4)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(questionRepository.findById(question.getQuestionId()).orElseThrow().getViewCount()).isEqualTo(7);
+    }
+
+    @Test
+    void findResponsesLoadsPageWithAuthorAndAnswerInTwoStatements() {
+        for (int i = 0; i < 30; i++) {
+            Question question = question("title" + i);
+            if (i % 3 == 0) {
+                question.setQuestionVisibility(Question.QuestionVisibility.QUESTION_SECRET);
+            }
+            if (i % 2 == 0) {
+                Answer answer = new Answer();
+                answer.setAnswerContext("answer" + i);
+                answer.setUser(user);
+                answer.setQuestion(question);
+                entityManager.persist(answer);
+            }
+        }
+        Question deleted = question("deleted");
+        deleted.setQuestionStatus(Question.QuestionStatus.QUESTION_DELETED);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<QuestionResponseDto> page = questionRepository.findResponsesByQuestionStatusNotIn(
+                List.of(Question.QuestionStatus.QUESTION_DELETED, Question.QuestionStatus.QUESTION_DEACTIVED),
+                PageRequest.of(1, 10, Sort.by("questionId").descending()));
+
+        // 목록 1번 + count 1번 (작성자, 답변마다 추가 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).hasSize(10).allSatisfy(response -> {
+            assertThat(response.getUserName()).isEqualTo("user");
+            if (response.getQuestionVisibility() == Question.QuestionVisibility.QUESTION_SECRET) {
+                assertThat(response.getTitle()).isEqualTo(Question.SECRET_TITLE);
+                assertThat(response.getQuestionContext()).isEqualTo(Question.SECRET_CONTEXT);
+            } else {
+                assertThat(response.getTitle()).startsWith("title");
+            }
+        });
+        assertThat(page.getContent()).anySatisfy(response -> assertThat(response.getAnswer()).isNotNull());
+    }
+
+    @Test
+    void findFeedVisitsEveryQuestionOnceAcrossPagesWithTies() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Question question = question("title" + i);
+            // 같은 좋아요 수가 여러 페이지에 걸치도록 (questionId로 순서를 정함)
+            question.setLikeCount(i % 3);
+            expected.add(question.getQuestionId());
+        }
+        Question secret = question("secret");
+        secret.setQuestionVisibility(Question.QuestionVisibility.QUESTION_SECRET);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (QuestionFeedSort sort : QuestionFeedSort.values()) {
+            List<Long> visited = readAll(sort, 4);
+
+            assertThat(visited).as(sort.name()).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void findFeedSkipsQuestionWhoseLikeCountMovesBehindTheCursor() {
+        Question first = question("first");
+        first.setLikeCount(3);
+        Question second = question("second");
+        second.setLikeCount(2);
+        Question third = question("third");
+        third.setLikeCount(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Question> page = questionRepository.findFeed(QuestionFeedSort.LIKES_DESC, null, 1);
+        QuestionFeedCursor cursor = QuestionFeedCursor.of(QuestionFeedSort.LIKES_DESC, page.get(0));
+
+        // 첫 페이지를 받은 뒤 third의 좋아요 수가 first보다 많아짐 -> 이미 받은 범위로 옮겨가서 다음 페이지에 없음 (문서화된 동작)
+        questionRepository.addLikeCount(third.getQuestionId(), 10);
+        entityManager.clear();
+
+        assertThat(questionRepository.findFeed(QuestionFeedSort.LIKES_DESC, cursor, 10))
+                .extracting(Question::getQuestionId)
+                .containsExactly(second.getQuestionId());
+    }
+
+    @Test
+    void feedKeysetQueryReadsIndexInSortOrder() {
+        // findFeed가 만드는 조건과 같은 모양의 SQL (cursor 위치부터 인덱스 순서대로 읽고 정렬을 따로 하지 않아야 함)
+        String descPlan = explain("SELECT question_id FROM question WHERE question_visibility = 'QUESTION_PUBLIC' " +
+                "AND like_count <= 5 AND (like_count < 5 OR (like_count = 5 AND question_id < 100)) " +
+                "ORDER BY like_count DESC, question_id DESC LIMIT 21");
+        String ascPlan = explain("SELECT question_id FROM question WHERE question_visibility = 'QUESTION_PUBLIC' " +
+                "AND view_count >= 5 AND (view_count > 5 OR (view_count = 5 AND question_id > 100)) " +
+                "ORDER BY view_count ASC, question_id ASC LIMIT 21");
+
+        assertThat(descPlan).contains("IDX_QUESTION_LIKE_COUNT_ID_DESC").contains("index sorted");
+        assertThat(ascPlan).contains("IDX_QUESTION_VIEW_COUNT_ID:").contains("index sorted");
+    }
+
+    @Test
+    void questionPageQueryReadsDescendingIdIndexAndJoinsAnswerByIndex() {
+        // findResponsesByQuestionStatusNotIn (questionId 내림차순) 과 같은 모양의 SQL
+        String plan = explain("SELECT q.question_id, u.name, a.answer_id FROM question q " +
+                "INNER JOIN users u ON q.user_id = u.user_id LEFT OUTER JOIN answer a ON q.question_id = a.question_id " +
+                "WHERE q.question_status NOT IN ('QUESTION_DELETED', 'QUESTION_DEACTIVED') " +
+                "ORDER BY q.question_id DESC LIMIT 10 OFFSET 20");
+        String countPlan = explain("SELECT COUNT(*) FROM question " +
+                "WHERE question_status NOT IN ('QUESTION_DELETED', 'QUESTION_DEACTIVED')");
+
+        assertThat(plan).contains("IDX_QUESTION_ID_DESC").contains("index sorted").doesNotContain("tableScan");
+        // 답변은 외래키 인덱스로 질문마다 바로 찾음
+        assertThat(plan).containsPattern("/\\* PUBLIC\\.FK\\w+: QUESTION_ID = Q\\.QUESTION_ID");
+        assertThat(countPlan).contains("IDX_QUESTION_STATUS_ID");
+    }
+
+    private String explain(String sql) {
+        return entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult().toString();
+    }
+
+    private List<Long> readAll(QuestionFeedSort sort, int size) {
+        List<Long> visited = new ArrayList<>();
+        QuestionFeedCursor cursor = null;
+
+        while (true) {
+            List<Question> page = questionRepository.findFeed(sort, cursor, size + 1);
+            boolean hasNext = page.size() > size;
+            if (hasNext) {
+                page = page.subList(0, size);
+            }
+            visited.addAll(page.stream().map(Question::getQuestionId).collect(Collectors.toList()));
+            if (!hasNext) {
+                return visited;
+            }
+            // 클라이언트가 받는 것과 같은 문자열 cursor를 거쳐서 다음 페이지 조회
+            cursor = QuestionFeedCursor.decode(QuestionFeedCursor.of(sort, page.get(page.size() - 1)).encode(), sort);
+        }
+    }
+
+    private Question question(String title) {
+        Question question = new Question();
+        question.setTitle(title);
+        question.setQuestionContext("context");
+        question.setUser(user);
+        return entityManager.persist(question);
+    }
+}
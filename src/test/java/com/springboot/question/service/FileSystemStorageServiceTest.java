@@ -0,0 +1,148 @@
+package com.springboot.question.service;
+
+import com.springboot.exception.StorageException;
+import org.apache.catalina.Context;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.support.StandardMultipartHttpServletRequest;
+
+import javax.servlet.MultipartConfigElement;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemStorageServiceTest {
+    // 요청은 1GB 파일 / 64MB Heap : 테스트 시간을 줄이기 위해 같은 비율(16배)로 줄임
+    private static final long LARGE_FILE_SIZE = 256L * 1024 * 1024;
+    private static final String SMALL_HEAP = "-Xmx16m";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void largeMultipartUploadIsStreamedOnSmallHeap() throws Exception {
+        // Heap이 파일보다 훨씬 작은 별도 JVM에서 실제 Tomcat으로 multipart 요청을 받아 저장
+        // (요청 본문이나 파일 전체를 메모리에 올리면 OutOfMemoryError)
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                SMALL_HEAP,
+                "-cp", System.getProperty("java.class.path"),
+                LargeUpload.class.getName(), root.toString(), String.valueOf(LARGE_FILE_SIZE))
+                .redirectErrorStream(true)
+                .redirectOutput(root.resolve("upload.log").toFile())
+                .start();
+
+        assertThat(process.waitFor(3, TimeUnit.MINUTES)).isTrue();
+        assertThat(process.exitValue())
+                .as(Files.readString(root.resolve("upload.log")))
+                .isZero();
+        assertThat(Files.size(root.resolve("images/large.bin"))).isEqualTo(LARGE_FILE_SIZE);
+        // 요청 처리가 끝나면 Tomcat의 임시 파일은 남지 않음
+        try (Stream<Path> temporaryFiles = Files.list(root.resolve("multipart"))) {
+            assertThat(temporaryFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void storeAndDeleteStayInsideRoot() throws IOException {
+        FileSystemStorageService storageService = new FileSystemStorageService(root.resolve("images").toString());
+        storageService.init();
+
+        storageService.store(new MockMultipartFile("image", "original.png", "image/png", new byte[]{1, 2, 3}), "a.png");
+        assertThat(Files.readAllBytes(root.resolve("images/a.png"))).containsExactly(1, 2, 3);
+
+        assertThatThrownBy(() -> storageService.store(
+                new MockMultipartFile("image", "b.png", "image/png", new byte[]{1}), "../b.png"))
+                .isInstanceOf(StorageException.class);
+        assertThatThrownBy(() -> storageService.store(
+                new MockMultipartFile("image", "c.png", "image/png", new byte[0]), "c.png"))
+                .isInstanceOf(StorageException.class);
+
+        storageService.delete("a.png");
+        storageService.delete("a.png");
+        assertThat(root.resolve("images/a.png")).doesNotExist();
+    }
+
+    // 작은 Heap의 JVM에서 실행하는 업로드 (Tomcat + application.yml과 같은 multipart 설정)
+    static class LargeUpload {
+        private static final String BOUNDARY = "large-upload-boundary";
+
+        public static void main(String[] args) throws Exception {
+            Path root = Paths.get(args[0]);
+            long size = Long.parseLong(args[1]);
+            Path multipartLocation = Files.createDirectories(root.resolve("multipart"));
+
+            FileSystemStorageService storageService = new FileSystemStorageService(root.resolve("images").toString());
+            storageService.init();
+
+            Tomcat tomcat = new Tomcat();
+            tomcat.setBaseDir(Files.createDirectories(root.resolve("tomcat")).toString());
+            tomcat.setPort(0);
+            tomcat.getConnector().setMaxPostSize(-1);
+            Context context = tomcat.addContext("", root.toString());
+            Wrapper wrapper = Tomcat.addServlet(context, "upload", new HttpServlet() {
+                @Override
+                protected void doPost(HttpServletRequest request, HttpServletResponse response) {
+                    storageService.store(new StandardMultipartHttpServletRequest(request).getFile("image"), "large.bin");
+                    response.setStatus(HttpServletResponse.SC_CREATED);
+                }
+            });
+            // file-size-threshold: 0 -> 업로드 파일은 바로 임시 파일에 기록
+            wrapper.setMultipartConfigElement(new MultipartConfigElement(multipartLocation.toString(), -1, -1, 0));
+            context.addServletMappingDecoded("/upload", "upload");
+            tomcat.start();
+
+            try {
+                int status = post(tomcat.getConnector().getLocalPort(), size);
+                if (status != HttpServletResponse.SC_CREATED) {
+                    throw new IllegalStateException("Upload failed: " + status);
+                }
+            } finally {
+                tomcat.stop();
+                tomcat.destroy();
+            }
+        }
+
+        // 요청 본문도 메모리에 모으지 않고 만들어내는 대로 전송
+        private static int post(int port, long size) throws IOException {
+            byte[] head = ("--" + BOUNDARY + "\r\n" +
+                    "Content-Disposition: form-data; name=\"image\"; filename=\"large.bin\"\r\n" +
+                    "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/upload").openConnection();
+            connection.setDoOutput(true);
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + BOUNDARY);
+            connection.setFixedLengthStreamingMode(head.length + size + tail.length);
+
+            try (OutputStream body = connection.getOutputStream()) {
+                body.write(head);
+                byte[] chunk = new byte[64 * 1024];
+                for (long written = 0; written < size; written += chunk.length) {
+                    Arrays.fill(chunk, (byte) (written / chunk.length));
+                    body.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+                }
+                body.write(tail);
+            }
+            return connection.getResponseCode();
+        }
+    }
+}
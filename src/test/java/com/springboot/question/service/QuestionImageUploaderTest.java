@@ -0,0 +1,215 @@
+package com.springboot.question.service;
+
+import com.springboot.exception.StorageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 파일 시스템 저장소에 업로드마다 지연 시간을 넣어서 테스트
+class QuestionImageUploaderTest {
+    private static final long LATENCY_MS = 300;
+
+    @TempDir
+    Path root;
+
+    private SlowStorageService storageService;
+    private SimpleMeterRegistry meterRegistry;
+    private QuestionImageUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        FileSystemStorageService fileSystem = new FileSystemStorageService(root.toString());
+        fileSystem.init();
+        storageService = new SlowStorageService(fileSystem);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (uploader != null) {
+            uploader.shutdown();
+        }
+    }
+
+    @Test
+    void imagesAreUploadedConcurrentlyUnderGeneratedNames() throws IOException {
+        uploader = uploader(4, 10_000);
+
+        long start = System.currentTimeMillis();
+        List<String> imageUrls = uploader.upload(List.of(
+                image("photo.png", "1"), image("photo.png", "2"), image("", ""), image("photo.png", "3"), image("x.JPG", "4")));
+        long elapsed = System.currentTimeMillis() - start;
+
+        // 4개를 동시에 업로드 (하나씩 올리면 4 * 300ms)
+        assertThat(elapsed).isLessThan(LATENCY_MS * 3);
+        assertThat(imageUrls).hasSize(4);
+        // 원래 이름이 같아도 서로 덮어쓰지 않고, 파일 순서대로 URL 반환
+        assertThat(imageUrls.stream().map(this::read)).containsExactly("1", "2", "3", "4");
+        assertThat(imageUrls.get(3)).endsWith(".jpg");
+        assertThat(meterRegistry.get("question.image.upload").tag("outcome", "success").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    void failedUploadDeletesOnlyThisRequestsImages() throws Exception {
+        uploader = uploader(4, 10_000);
+        // 다른 질문이 먼저 같은 이름의 이미지를 올려둠
+        List<String> otherQuestion = uploader.upload(List.of(image("photo.png", "other")));
+
+        storageService.failing.add("broken.png");
+        assertThatThrownBy(() -> uploader.upload(List.of(
+                image("photo.png", "1"), image("broken.png", "2"), image("photo.png", "3"))))
+                .isInstanceOf(StorageException.class);
+
+        awaitUploadsFinished();
+        assertThat(storedFiles()).containsExactly(filename(otherQuestion.get(0)));
+        assertThat(read(otherQuestion.get(0))).isEqualTo("other");
+        assertThat(meterRegistry.get("question.image.upload").tag("outcome", "failure").timer().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void timedOutUploadsAreCancelled() throws Exception {
+        storageService.latencyMillis = 5_000;
+        uploader = uploader(4, 200);
+
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> uploader.upload(List.of(image("a.png", "1"), image("b.png", "2"))))
+                .isInstanceOf(StorageException.class);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(2_000);
+        // 진행 중이던 업로드는 interrupt 되어 중단됨
+        awaitUploadsFinished();
+        assertThat(storageService.interrupted).hasValue(2);
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    void uploadThatIgnoresCancellationDeletesItselfWhenDone() throws Exception {
+        storageService.ignoreInterrupt = true;
+        uploader = uploader(4, 100);
+
+        assertThatThrownBy(() -> uploader.upload(List.of(image("a.png", "1"))))
+                .isInstanceOf(StorageException.class);
+
+        // 취소 後에 저장이 끝나도 남지 않음
+        awaitUploadsFinished();
+        assertThat(storageService.stored).hasValue(1);
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    void uploadsBeyondPoolAndQueueAreRejected() {
+        uploader = uploader(1, 10_000, 1);
+
+        assertThatThrownBy(() -> uploader.upload(List.of(image("a.png", "1"), image("b.png", "2"), image("c.png", "3"))))
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("Too many");
+    }
+
+    private QuestionImageUploader uploader(int poolSize, long timeoutMillis) {
+        return uploader(poolSize, timeoutMillis, 100);
+    }
+
+    private QuestionImageUploader uploader(int poolSize, long timeoutMillis, int queueCapacity) {
+        return new QuestionImageUploader(storageService, meterRegistry, poolSize, queueCapacity, timeoutMillis);
+    }
+
+    private void awaitUploadsFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (storageService.running.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        // 업로드를 마친 Thread의 삭제(보상 처리)까지 기다림
+        Thread.sleep(100);
+    }
+
+    private Set<String> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private String read(String imageUrl) {
+        try {
+            return Files.readString(root.resolve(filename(imageUrl)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String filename(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+    }
+
+    private static MultipartFile image(String originalFilename, String content) {
+        return new MockMultipartFile("image", originalFilename, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 업로드마다 지연 시간을 넣은 저장소
+    private static class SlowStorageService implements StorageService {
+        private final StorageService delegate;
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger interrupted = new AtomicInteger();
+        private final AtomicInteger stored = new AtomicInteger();
+        private volatile long latencyMillis = LATENCY_MS;
+        // interrupt를 무시하고 끝까지 업로드하는 SDK 흉내
+        private volatile boolean ignoreInterrupt;
+
+        SlowStorageService(StorageService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void store(MultipartFile file, String filename) {
+            running.incrementAndGet();
+            try {
+                sleep();
+                if (failing.contains(file.getOriginalFilename())) {
+                    throw new StorageException("Failed to store file.");
+                }
+                delegate.store(file, filename);
+                stored.incrementAndGet();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void delete(String filename) {
+            delegate.delete(filename);
+        }
+
+        private void sleep() {
+            long deadline = System.currentTimeMillis() + latencyMillis;
+            while (System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(Math.max(1, deadline - System.currentTimeMillis()));
+                } catch (InterruptedException e) {
+                    if (!ignoreInterrupt) {
+                        interrupted.incrementAndGet();
+                        Thread.currentThread().interrupt();
+                        throw new StorageException("Interrupted.", e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.springboot.question.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.helper.event.QuestionChangedEvent;
+import com.springboot.redis.RedisBatchOperations;
+import com.springboot.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서버 2대(QuestionPageCache 2개)가 같은 In-process Redis를 사용하는 상황
+class QuestionPageCacheTest {
+    private static final String PAGE_KEY = "page:1:10";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JavaType pageType = objectMapper.getTypeFactory().constructCollectionType(List.class, String.class);
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = EmbeddedRedis.connectionFactory();
+        EmbeddedRedis.flushAll(connectionFactory);
+        redisTemplate = EmbeddedRedis.redisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void pageLoadedByOneNodeIsSharedThroughRedis() {
+        QuestionPageCache nodeA = node(1000);
+        QuestionPageCache nodeB = node(1000);
+
+        assertThat(nodeA.get(PAGE_KEY, pageType, loader("v1"))).containsExactly("v1");
+        assertThat(nodeB.get(PAGE_KEY, pageType, loader("other"))).containsExactly("v1");
+        assertThat(nodeA.get(PAGE_KEY, pageType, loader("other"))).containsExactly("v1");
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void likeEventInvalidatesEveryNodeOverPubSub() throws Exception {
+        QuestionPageCache nodeA = node(1000);
+        QuestionPageCache nodeB = node(1000);
+        List<String> messages = new CopyOnWriteArrayList<>();
+        RedisMessageListenerContainer observer = EmbeddedRedis.listenerContainer(connectionFactory);
+        containers.add(observer);
+        observer.addMessageListener((message, pattern) ->
+                messages.add(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic("question-page-invalidation"));
+        Thread.sleep(200);
+
+        nodeA.get(PAGE_KEY, pageType, loader("v1"));
+        nodeB.get(PAGE_KEY, pageType, loader("v1"));
+
+        // 좋아요 수만 바뀐 경우도 목록을 비움
+        nodeA.onQuestionChanged(new QuestionChangedEvent(this, 1L));
+
+        assertThat(nodeA.get(PAGE_KEY, pageType, loader("v2"))).containsExactly("v2");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!nodeB.get(PAGE_KEY, pageType, loader("v3")).equals(List.of("v2"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(nodeB.get(PAGE_KEY, pageType, loader("v3"))).containsExactly("v2");
+
+        // pub/sub 메시지는 값 Serializer의 Header 없이 세대 값 문자열 그대로 전달
+        assertThat(messages).containsExactly(String.valueOf(redisTemplate.opsForValue().get("question-page:generation")));
+    }
+
+    @Test
+    void concurrentMissesOnSeveralNodesLoadOnce() throws Exception {
+        QuestionPageCache nodeA = node(5000);
+        QuestionPageCache nodeB = node(5000);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<String>>> pages = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            QuestionPageCache node = i % 2 == 0 ? nodeA : nodeB;
+            pages.add(executor.submit(() -> {
+                start.await();
+                return node.get(PAGE_KEY, pageType, () -> {
+                    loads.incrementAndGet();
+                    sleep(300);
+                    return List.of("v1");
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<List<String>> page : pages) {
+            assertThat(page.get()).containsExactly("v1");
+        }
+        executor.shutdown();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void onlyPreviousGenerationIsServedWhileAnotherNodeRebuilds() {
+        QuestionPageCache nodeA = node(200);
+        QuestionPageCache nodeB = node(200);
+        nodeA.get(PAGE_KEY, pageType, loader("v1"));
+
+        // 다른 서버가 새 세대의 응답을 만드는 중 (Lock)
+        nodeA.invalidateAll();
+        nodeB.syncGeneration();
+        lockCurrentGeneration();
+
+        assertThat(nodeB.get(PAGE_KEY, pageType, loader("v2"))).containsExactly("v1");
+        assertThat(loads).hasValue(1);
+
+        // 두 세대 이상 지난 응답은 사용하지 않고, 기다린 뒤 직접 조회
+        nodeA.invalidateAll();
+        nodeB.syncGeneration();
+        lockCurrentGeneration();
+
+        assertThat(nodeB.get(PAGE_KEY, pageType, loader("v3"))).containsExactly("v3");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void unreadableRedisValueIsTreatedAsMiss() {
+        QuestionPageCache node = node(1000);
+        node.invalidateAll();
+        long generation = Long.parseLong(String.valueOf(redisTemplate.opsForValue().get("question-page:generation")));
+
+        // 등록되지 않은 TYPE ID로 저장된 값 (역직렬화 시 SerializationException)
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.stringCommands().set(
+                    ("question-page:" + generation + ":" + PAGE_KEY).getBytes(StandardCharsets.UTF_8),
+                    new byte[]{(byte) 0xB1, 1, 0, 99, 1, 2, 3});
+        }
+
+        assertThat(node.get(PAGE_KEY, pageType, loader("v1"))).containsExactly("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    private void lockCurrentGeneration() {
+        Object generation = redisTemplate.opsForValue().get("question-page:generation");
+        redisTemplate.opsForValue().set("question-page:lock:" + generation + ":" + PAGE_KEY, "1");
+    }
+
+    private Supplier<List<String>> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(value);
+        };
+    }
+
+    private QuestionPageCache node(long lockWaitMillis) {
+        RedisMessageListenerContainer container = EmbeddedRedis.listenerContainer(connectionFactory);
+        containers.add(container);
+
+        QuestionPageCache cache = new QuestionPageCache(redisTemplate, new RedisBatchOperations(redisTemplate),
+                container, objectMapper, 5_000, 100, 60_000, 600_000, 5_000, lockWaitMillis);
+        cache.subscribe();
+        return cache;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
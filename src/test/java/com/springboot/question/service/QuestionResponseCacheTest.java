@@ -0,0 +1,94 @@
+package com.springboot.question.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionResponseCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void currentResponseIsServedUntilTtl() {
+        QuestionResponseCache cache = cache(1024 * 1024);
+
+        cache.put(1L, cache.currentVersion(1L), Map.of("title", "v1"));
+        assertThat(body(cache.get(1L))).contains("v1");
+
+        advance(TTL);
+        assertThat(cache.get(1L)).isNull();
+
+        // TTL이 지나도 버전은 그대로이므로, 다시 조회한 응답은 저장됨
+        cache.put(1L, cache.currentVersion(1L), Map.of("title", "v1 again"));
+        assertThat(body(cache.get(1L))).contains("v1 again");
+    }
+
+    @Test
+    void responseLoadedBeforeChangeIsNeverStoredEvenAfterTtl() {
+        QuestionResponseCache cache = cache(1024 * 1024);
+        cache.put(1L, cache.currentVersion(1L), Map.of("title", "v1"));
+
+        // 변경 전에 조회를 시작한 요청
+        long staleVersion = cache.currentVersion(1L);
+        cache.invalidate(1L);
+
+        // 이전에는 버전이 TTL의 2배 後 사라져서, 그 뒤에 저장된 이전 응답이 사용될 수 있었음
+        advance(TTL.multipliedBy(10));
+        cache.put(1L, staleVersion, Map.of("title", "stale"));
+
+        assertThat(cache.get(1L)).isNull();
+
+        cache.put(1L, cache.currentVersion(1L), Map.of("title", "v2"));
+        assertThat(body(cache.get(1L))).contains("v2");
+    }
+
+    @Test
+    void loadStartedBeforeFirstChangeIsNotStored() {
+        QuestionResponseCache cache = cache(1024 * 1024);
+
+        // 캐시에 없던 질문을 조회하는 도중 변경됨
+        long staleVersion = cache.currentVersion(1L);
+        cache.invalidate(1L);
+        cache.put(1L, staleVersion, Map.of("title", "stale"));
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void evictedVersionRejectsOlderLoads() {
+        // 응답 1~2개만 들어가는 크기
+        QuestionResponseCache cache = cache(300);
+
+        long staleVersion = cache.currentVersion(1L);
+        cache.invalidate(1L);
+
+        // 다른 질문을 채워서 1번 질문의 버전(tombstone)이 용량 초과로 삭제되게 함
+        for (long questionId = 2; questionId < 20; questionId++) {
+            cache.put(questionId, cache.currentVersion(questionId), Map.of("title", "x".repeat(100)));
+        }
+        cache.put(1L, staleVersion, Map.of("title", "stale"));
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private QuestionResponseCache cache(long maxBytes) {
+        return new QuestionResponseCache(new ObjectMapper(), new SimpleMeterRegistry(), maxBytes, TTL,
+                now::get, Runnable::run);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private static String body(byte[] body) {
+        return body == null ? null : new String(body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.springboot.question.service;
+
+import com.springboot.question.dto.QuestionResponseDto;
+import com.springboot.question.entity.Question;
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.support.IntegrationTest;
+import com.springboot.support.SqlStatementRecorder;
+import com.springboot.user.entity.User;
+import com.springboot.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionServiceTest extends IntegrationTest {
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void findQuestionsMasksSecretQuestionsWithoutWriteStatements() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@gmail.com");
+        user.setName("writer");
+        user.setPassword("password");
+        user.setRoles(List.of("USER"));
+        userRepository.save(user);
+
+        List<Long> secretIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Question question = new Question();
+            question.setTitle("real title " + i);
+            question.setQuestionContext("real context " + i);
+            question.setQuestionVisibility(Question.QuestionVisibility.QUESTION_SECRET);
+            question.setUser(user);
+            secretIds.add(questionRepository.save(question).getQuestionId());
+        }
+
+        AtomicReference<Page<QuestionResponseDto>> page = new AtomicReference<>();
+        List<String> statements = SqlStatementRecorder.record(() -> page.set(questionService.findQuestions(1, 20)));
+
+        // 목록 1번 + count 1번만 실행되고 UPDATE 등 쓰기 SQL은 없음
+        assertThat(statements).hasSizeBetween(1, 2)
+                .allSatisfy(sql -> assertThat(sql.trim().toLowerCase()).startsWith("select"));
+        assertThat(page.get().getContent())
+                .filteredOn(response -> secretIds.contains(response.getQuestionId()))
+                .hasSize(5)
+                .allSatisfy(response -> {
+                    assertThat(response.getTitle()).isEqualTo(Question.SECRET_TITLE);
+                    assertThat(response.getQuestionContext()).isEqualTo(Question.SECRET_CONTEXT);
+                });
+        // DB의 실제 제목, 내용은 그대로 남아 있음
+        assertThat(questionRepository.findAllById(secretIds))
+                .extracting(Question::getTitle)
+                .allSatisfy(title -> assertThat(title).startsWith("real title"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.springboot.question.service;
+
+import com.springboot.question.repository.QuestionRepository;
+import com.springboot.utils.PendingCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class QuestionViewCounterTest {
+    private static final int THREADS = 16;
+    private static final int VIEWS_PER_THREAD = 20_000;
+    private static final long QUESTIONS = 8;
+
+    private final Map<Long, Long> savedViews = new ConcurrentHashMap<>();
+    private QuestionRepository questionRepository;
+    private QuestionViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository = mock(QuestionRepository.class);
+        when(questionRepository.increaseViewCount(anyLong(), anyInt())).thenAnswer(invocation -> {
+            savedViews.merge(invocation.getArgument(0), (long) (int) invocation.getArgument(1), Long::sum);
+            return 1;
+        });
+        viewCounter = new QuestionViewCounter(questionRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void noViewIsLostWhileFlushingConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean viewing = new AtomicBoolean(true);
+
+        // 조회와 동시에 계속 flush (flush 중에 들어온 증가분, 제거되는 Key에 들어온 증가분도 누락되면 안 됨)
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (viewing.get()) {
+                viewCounter.flush();
+            }
+            return null;
+        });
+        List<Future<?>> viewers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            viewers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    viewCounter.increment((i + offset) % QUESTIONS);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> viewer : viewers) {
+            viewer.get(60, TimeUnit.SECONDS);
+        }
+        viewing.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        viewCounter.flush();
+
+        long expectedPerQuestion = (long) THREADS * VIEWS_PER_THREAD / QUESTIONS;
+        assertThat(savedViews).hasSize((int) QUESTIONS);
+        assertThat(savedViews.values()).allMatch(views -> views == expectedPerQuestion);
+    }
+
+    @Test
+    void dropsQuestionsWithNoNewViewsAfterFlush() {
+        for (long questionId = 0; questionId < 1_000; questionId++) {
+            viewCounter.increment(questionId);
+        }
+        assertThat(pendingQuestions()).isEqualTo(1_000);
+
+        viewCounter.flush();
+        viewCounter.increment(1L);
+        viewCounter.flush();
+
+        // 직전 flush 이후 조회가 없던 질문은 메모리에서 제거
+        assertThat(pendingQuestions()).isEqualTo(1);
+        assertThat(savedViews.get(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void splitsDeltasLargerThanIntInsteadOfTruncating() {
+        PendingCounters<Long> pendingViews = (PendingCounters<Long>) ReflectionTestUtils.getField(viewCounter, "pendingViews");
+        pendingViews.add(1L, Integer.MAX_VALUE + 10L);
+
+        viewCounter.flush();
+
+        verify(questionRepository).increaseViewCount(1L, Integer.MAX_VALUE);
+        verify(questionRepository).increaseViewCount(1L, 10);
+        assertThat(savedViews.get(1L)).isEqualTo(Integer.MAX_VALUE + 10L);
+    }
+
+    @Test
+    void keepsViewsForNextFlushWhenUpdateFails() {
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        doThrow(new IllegalStateException("db down")).when(questionRepository).increaseViewCount(anyLong(), anyInt());
+
+        assertThatThrownBy(() -> viewCounter.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(viewCounter.getPendingCount(1L)).isEqualTo(2);
+    }
+
+    private int pendingQuestions() {
+        return ((PendingCounters<?>) ReflectionTestUtils.getField(viewCounter, "pendingViews")).size();
+    }
+}
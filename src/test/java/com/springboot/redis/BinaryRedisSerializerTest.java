@@ -0,0 +1,69 @@
+package com.springboot.redis;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryRedisSerializerTest {
+    private final BinaryRedisSerializer serializer = new BinaryRedisSerializer(1024);
+
+    @Test
+    void shortStringIsStoredAsPlainUtf8() {
+        byte[] bytes = serializer.serialize("1");
+
+        // INCR 카운터, 이전 StringRedisSerializer 값과 같은 형식
+        assertThat(bytes).isEqualTo("1".getBytes(StandardCharsets.UTF_8));
+        assertThat(serializer.deserialize("질문".getBytes(StandardCharsets.UTF_8))).isEqualTo("질문");
+    }
+
+    @Test
+    void longStringIsCompressedBehindHeader() {
+        String page = "{\"data\":[" + "{\"title\":\"질문 제목\",\"questionContext\":\"내용\"},".repeat(100) + "{}]}";
+
+        byte[] bytes = serializer.serialize(page);
+
+        assertThat(bytes[0]).isEqualTo(BinaryRedisSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(BinaryRedisSerializer.VERSION);
+        assertThat(bytes.length).isLessThan(page.getBytes(StandardCharsets.UTF_8).length / 5);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(page);
+    }
+
+    @Test
+    void incompressibleStringIsStoredUncompressed() {
+        byte[] random = new byte[2048];
+        new Random(1).nextBytes(random);
+        String text = java.util.Base64.getEncoder().encodeToString(random);
+
+        byte[] bytes = serializer.serialize(text);
+
+        assertThat(bytes.length).isLessThanOrEqualTo(text.length() + 4);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(text);
+    }
+
+    @Test
+    void unknownVersionOrTypeIsCacheMiss() {
+        byte[] bytes = serializer.serialize("x".repeat(2048));
+
+        byte[] newerVersion = Arrays.copyOf(bytes, bytes.length);
+        newerVersion[1] = (byte) (BinaryRedisSerializer.VERSION + 1);
+        assertThat(serializer.deserialize(newerVersion)).isNull();
+
+        // 이전 버전이 DTO(Smile)로 저장한 값
+        assertThat(serializer.deserialize(new byte[]{BinaryRedisSerializer.MAGIC, 1, 0, 1, 0x3A, 0x29})).isNull();
+    }
+
+    @Test
+    void corruptedOrUnsupportedValuesFailWithSerializationException() {
+        byte[] bytes = serializer.serialize("x".repeat(2048));
+        byte[] truncated = Arrays.copyOf(bytes, 8);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.serialize(1L)).isInstanceOf(SerializationException.class);
+    }
+}
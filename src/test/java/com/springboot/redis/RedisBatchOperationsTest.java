@@ -0,0 +1,65 @@
+package com.springboot.redis;
+
+import com.springboot.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisBatchOperationsTest {
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private RedisBatchOperations redisBatchOperations;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = EmbeddedRedis.connectionFactory();
+        EmbeddedRedis.flushAll(connectionFactory);
+        redisTemplate = EmbeddedRedis.redisTemplate(connectionFactory);
+        redisBatchOperations = new RedisBatchOperations(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void getAllReturnsValuesInKeyOrder() {
+        redisTemplate.opsForValue().set("a", "1");
+        redisTemplate.opsForValue().set("c", "x".repeat(2048));
+
+        List<Object> values = redisBatchOperations.getAll(List.of("a", "b", "c"));
+
+        // 없는 Key는 null, 압축 저장된 값도 그대로 읽음
+        assertThat(values).containsExactly("1", null, "x".repeat(2048));
+        assertThat(redisBatchOperations.getAll(List.of())).isEmpty();
+    }
+
+    @Test
+    void pipelinedReturnsEachCommandResultInOrder() {
+        List<Object> results = redisBatchOperations.pipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().set("page", "json", Duration.ofSeconds(60));
+                operations.opsForValue().increment("counter");
+                operations.opsForValue().get("page");
+                return null;
+            }
+        });
+
+        assertThat(results).containsExactly(true, 1L, "json");
+        assertThat(redisTemplate.getExpire("page", TimeUnit.SECONDS)).isBetween(1L, 60L);
+    }
+}
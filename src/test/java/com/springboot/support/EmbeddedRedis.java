@@ -0,0 +1,74 @@
+package com.springboot.support;
+
+import com.springboot.redis.BinaryRedisSerializer;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+// 테스트에서 사용하는 In-process Redis 서버 (JVM당 한 번만 띄우고 종료 時 정리)
+public final class EmbeddedRedis {
+    private static RedisServer server;
+    private static int port;
+
+    private EmbeddedRedis() {
+    }
+
+    public static synchronized int start() {
+        if (server == null) {
+            try {
+                try (ServerSocket socket = new ServerSocket(0)) {
+                    port = socket.getLocalPort();
+                }
+                server = new RedisServer(port);
+                server.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.stop();
+                } catch (IOException ignored) {
+                }
+            }));
+        }
+        return port;
+    }
+
+    public static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", start()));
+        connectionFactory.afterPropertiesSet();
+        return connectionFactory;
+    }
+
+    // RedisRepositoryConfig와 같은 Serializer 구성
+    public static RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new BinaryRedisSerializer(1024));
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+
+    public static RedisMessageListenerContainer listenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+
+    public static void flushAll(RedisConnectionFactory connectionFactory) {
+        connectionFactory.getConnection().serverCommands().flushAll();
+    }
+}
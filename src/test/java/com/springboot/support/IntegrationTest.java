@@ -0,0 +1,19 @@
+package com.springboot.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// 전체 애플리케이션 Context를 띄우는 테스트의 공통 설정 (In-process Redis, test Profile)
+// 설정이 같은 테스트끼리는 Context를 재사용하므로, 테스트 데이터는 테스트마다 다른 값(email 등)을 사용
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTest {
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "127.0.0.1");
+        registry.add("spring.data.redis.port", EmbeddedRedis::start);
+    }
+}
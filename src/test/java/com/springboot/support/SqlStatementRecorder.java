@@ -0,0 +1,33 @@
+package com.springboot.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hibernate가 실행하는 SQL을 현재 Thread 기준으로 기록 (application-test.yml의 statement_inspector로 등록)
+// 스케줄러 등 다른 Thread가 실행한 SQL은 기록되지 않으므로, 테스트에서 호출한 코드의 SQL만 셀 수 있음
+public class SqlStatementRecorder implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    // action을 실행하는 동안 현재 Thread에서 실행된 SQL 목록 반환
+    public static List<String> record(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            action.run();
+        } finally {
+            STATEMENTS.remove();
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,66 @@
+package com.springboot.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingCountersTest {
+
+    @Test
+    void drainsEveryDeltaExactlyOnceWhileKeysAreRemovedConcurrently() throws Exception {
+        PendingCounters<Integer> counters = new PendingCounters<>();
+        Map<Integer, Long> drained = new HashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+
+        // 드문드문 더하는 Key가 많아야 drain()이 Key를 제거하는 순간과 add()가 자주 겹침
+        Future<?> drainer = executor.submit(() -> {
+            start.await();
+            while (adding.get()) {
+                counters.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+            }
+            return null;
+        });
+        List<Future<?>> adders = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int sign = t % 2 == 0 ? 1 : -1;
+            adders.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200_000; i++) {
+                    counters.add(i % 1_000, sign * 3L);
+                    counters.add(i % 1_000, 1);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : adders) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        adding.set(false);
+        drainer.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        counters.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+
+        // +3, -3은 상쇄되고 +1만 Key당 8 * 200 = 1600번 남음
+        assertThat(drained).hasSize(1_000);
+        assertThat(drained.values()).allMatch(delta -> delta == 1_600);
+
+        // 더 이상 변경이 없으면 모든 Key가 제거됨
+        counters.drain();
+        assertThat(counters.size()).isZero();
+    }
+}